@@ -0,0 +1,134 @@
+package per.nonlone.utils.datetime;
+
+import com.alibaba.fastjson.JSON;
+import com.alibaba.fastjson.serializer.JSONSerializer;
+import com.alibaba.fastjson.serializer.ObjectSerializer;
+import com.alibaba.fastjson.serializer.SerializeConfig;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import per.nonlone.utils.fastjson.serializer.DateSerializer;
+import per.nonlone.utils.jackson.DatePatternStdSerializer;
+
+import java.lang.reflect.Type;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 序列化 100 万条带日期记录，原 DateUtils 方式与 CachedDateFormatter 对比
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DateCodecBenchmark {
+
+    private static final int RECORD_COUNT = 1000000;
+
+    @Param({"legacy", "cached"})
+    private String codec;
+
+    private SerializeConfig serializeConfig;
+
+    private ObjectMapper objectMapper;
+
+    private Record[] records;
+
+    @Setup
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void setup() {
+        serializeConfig = new SerializeConfig();
+        objectMapper = new ObjectMapper();
+        if ("legacy".equals(codec)) {
+            serializeConfig.put(Date.class, new LegacyDateSerializer(DateTimeStyle.DEFAULT_YYYY_MM_DD_HH_MM_SS));
+            objectMapper.setDateFormat(new SimpleDateFormat(DateTimeStyle.DEFAULT_YYYY_MM_DD_HH_MM_SS));
+        } else {
+            serializeConfig.put(Date.class, DateSerializer.instance);
+            objectMapper.registerModule(new SimpleModule().addSerializer(Date.class, (JsonSerializer) new DatePatternStdSerializer()));
+        }
+        // 时间集中在数天内，与业务数据分布接近
+        Random random = new Random(32);
+        long startMillis = 1548072000990L;
+        records = new Record[RECORD_COUNT];
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            long createMillis = startMillis + random.nextInt(3 * 86400000);
+            records[i] = new Record(i, new Date(createMillis), new Date(createMillis + random.nextInt(3600000)));
+        }
+    }
+
+    @Benchmark
+    public void fastjson(Blackhole blackhole) {
+        for (Record record : records) {
+            blackhole.consume(JSON.toJSONString(record, serializeConfig));
+        }
+    }
+
+    @Benchmark
+    public void jackson(Blackhole blackhole) throws Exception {
+        for (Record record : records) {
+            blackhole.consume(objectMapper.writeValueAsBytes(record));
+        }
+    }
+
+    /**
+     * 原 fastjson 日期序列化实现
+     */
+    public static class LegacyDateSerializer implements ObjectSerializer {
+
+        private final String parttern;
+
+        public LegacyDateSerializer(String parttern) {
+            this.parttern = parttern;
+        }
+
+        @Override
+        public void write(JSONSerializer serializer, Object object, Object fieldName, Type fieldType, int features) {
+            if (object instanceof Date) {
+                serializer.out.writeString(DateUtils.format((Date) object, parttern));
+            }
+        }
+    }
+
+    public static class Record {
+
+        private final long id;
+
+        private final Date createTime;
+
+        private final Date updateTime;
+
+        public Record(long id, Date createTime, Date updateTime) {
+            this.id = id;
+            this.createTime = createTime;
+            this.updateTime = updateTime;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public Date getCreateTime() {
+            return createTime;
+        }
+
+        public Date getUpdateTime() {
+            return updateTime;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package per.nonlone.utils.digest;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 本地生成文件的整体摘要与树形摘要(串行、公共线程池并行)对比
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TreeHashBenchmark {
+
+    private static final int FILE_LENGTH = 256 * 1024 * 1024;
+
+    @Param({"MD5", "SHA-256"})
+    private String algorithm;
+
+    private Path path;
+
+    @Setup
+    public void setup() throws Exception {
+        path = Files.createTempFile("tree-hash-benchmark", ".data");
+        byte[] block = new byte[1024 * 1024];
+        Random random = new Random(47);
+        try (OutputStream outputStream = Files.newOutputStream(path)) {
+            for (int written = 0; written < FILE_LENGTH; written += block.length) {
+                random.nextBytes(block);
+                outputStream.write(block);
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        Files.deleteIfExists(path);
+    }
+
+    @Benchmark
+    public byte[] serial() throws Exception {
+        return DigestEngine.digest(path, algorithm);
+    }
+
+    @Benchmark
+    public byte[] treeSerial() throws Exception {
+        return TreeHash.digest(path, algorithm, TreeHash.DEFAULT_CHUNK_SIZE, null).getRoot();
+    }
+
+    @Benchmark
+    public byte[] treeParallel() throws Exception {
+        return TreeHash.digest(path, algorithm, TreeHash.DEFAULT_CHUNK_SIZE, ForkJoinPool.commonPool()).getRoot();
+    }
+}
@@ -0,0 +1,92 @@
+package per.nonlone.utils.encrypt;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.Cipher;
+import javax.crypto.KeyGenerator;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Provider;
+import java.security.SecureRandom;
+import java.security.Security;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 原逐次创建密钥与 Cipher 的方式与 AESEngine 对比，一次操作为加密后解密，线程数通过 -t 指定
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AESBenchmark {
+
+    private static final String KEY = "benchmark-key";
+
+    private static final String RAW_KEY = "0123456789abcdef";
+
+    private String content;
+
+    @Setup
+    public void setup() throws Exception {
+        StringBuilder sb = new StringBuilder();
+        while (sb.length() < 256) {
+            sb.append("{\"orderId\":\"FT133532775637581824\",\"amount\":700000.0}");
+        }
+        content = sb.toString();
+        // 触发 AESUtils 注册 BouncyCastle
+        AESUtils.aesEncrypt(content, KEY);
+    }
+
+    @Benchmark
+    public byte[] legacyDerived() throws GeneralSecurityException {
+        byte[] encrypted = legacyDoFinal(Cipher.ENCRYPT_MODE, content.getBytes(StandardCharsets.UTF_8), legacyDerivedKey(KEY), AESEngine.TRANSFORMATION_DEFAULT);
+        return legacyDoFinal(Cipher.DECRYPT_MODE, encrypted, legacyDerivedKey(KEY), AESEngine.TRANSFORMATION_DEFAULT);
+    }
+
+    @Benchmark
+    public byte[] engineDerived() throws Exception {
+        return AESUtils.aesDecrypt(AESUtils.aesEncrypt(content, KEY), KEY);
+    }
+
+    @Benchmark
+    public byte[] legacyEcbPkcs7() throws GeneralSecurityException {
+        SecretKeySpec secretKeySpec = new SecretKeySpec(RAW_KEY.getBytes(), "AES");
+        byte[] encrypted = legacyDoFinal(Cipher.ENCRYPT_MODE, content.getBytes(StandardCharsets.UTF_8), secretKeySpec, AESEngine.TRANSFORMATION_ECB_PKCS7);
+        return legacyDoFinal(Cipher.DECRYPT_MODE, encrypted, new SecretKeySpec(RAW_KEY.getBytes(), "AES"), AESEngine.TRANSFORMATION_ECB_PKCS7);
+    }
+
+    @Benchmark
+    public byte[] engineEcbPkcs7() throws Exception {
+        return AESUtils.aesDecryptWithECBAndPKCS7(AESUtils.aesEncryptWithECBAndPKCS7(content, RAW_KEY), RAW_KEY);
+    }
+
+    /**
+     * 原 AESUtils.generateKey 实现
+     */
+    private static SecretKeySpec legacyDerivedKey(String key) throws GeneralSecurityException {
+        Provider provider = Security.getProvider("SUN");
+        SecureRandom secureRandom = SecureRandom.getInstance("SHA1PRNG", provider);
+        secureRandom.setSeed(key.getBytes());
+        KeyGenerator keyGenerator = KeyGenerator.getInstance("AES");
+        keyGenerator.init(secureRandom);
+        return new SecretKeySpec(keyGenerator.generateKey().getEncoded(), "AES");
+    }
+
+    private static byte[] legacyDoFinal(int mode, byte[] content, SecretKeySpec secretKeySpec, String transformation) throws GeneralSecurityException {
+        Cipher cipher = Cipher.getInstance(transformation);
+        cipher.init(mode, secretKeySpec);
+        return cipher.doFinal(content);
+    }
+}
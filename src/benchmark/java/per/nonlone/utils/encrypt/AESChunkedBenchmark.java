@@ -0,0 +1,93 @@
+package per.nonlone.utils.encrypt;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 本地临时文件分块加解密，串行与线程池并行对比，线程池大小为可用处理器数
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AESChunkedBenchmark {
+
+    private static final int FILE_LENGTH = 64 * 1024 * 1024;
+
+    @Param({"serial", "parallel"})
+    private String mode;
+
+    private ExecutorService executorService;
+
+    private SecretKeySpec secretKeySpec;
+
+    private Path directory;
+
+    private Path plain;
+
+    private Path encrypted;
+
+    private Path decrypted;
+
+    @Setup
+    public void setup() throws Exception {
+        executorService = "parallel".equals(mode) ? Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors()) : null;
+        secretKeySpec = AESEngine.derivedKey("benchmark-key");
+        directory = Files.createTempDirectory("chunked-benchmark");
+        plain = directory.resolve("data.plain");
+        encrypted = directory.resolve("data.aesc");
+        decrypted = directory.resolve("data.out");
+        byte[] block = new byte[1024 * 1024];
+        Random random = new Random(42);
+        try (OutputStream outputStream = Files.newOutputStream(plain)) {
+            for (int written = 0; written < FILE_LENGTH; written += block.length) {
+                random.nextBytes(block);
+                outputStream.write(block);
+            }
+        }
+        AESChunkedContainer.encryptFile(plain, encrypted, secretKeySpec, AESChunkedContainer.DEFAULT_CHUNK_SIZE, null);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        if (Objects.nonNull(executorService)) {
+            executorService.shutdown();
+        }
+        Files.deleteIfExists(plain);
+        Files.deleteIfExists(encrypted);
+        Files.deleteIfExists(decrypted);
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public AESChunkedContainer.Header encryptFile() throws Exception {
+        return AESChunkedContainer.encryptFile(plain, encrypted, secretKeySpec, AESChunkedContainer.DEFAULT_CHUNK_SIZE, executorService);
+    }
+
+    @Benchmark
+    public AESChunkedContainer.Header decryptFile() throws Exception {
+        return AESChunkedContainer.decryptFile(encrypted, decrypted, secretKeySpec, executorService);
+    }
+}
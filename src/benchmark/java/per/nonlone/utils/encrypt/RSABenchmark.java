@@ -0,0 +1,78 @@
+package per.nonlone.utils.encrypt;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import per.nonlone.utils.encode.Base64Utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.Signature;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 签名与验签，每次解析密钥并创建 Signature 的原方式与 RSAKeyRegistry 缓存对比
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RSABenchmark {
+
+    private byte[] data;
+
+    private String publicKey;
+
+    private String privateKey;
+
+    private String sign;
+
+    @Setup
+    public void setup() throws Exception {
+        KeyPair keyPair = RSAUtils.getRSAKeyPair(2048);
+        publicKey = Base64Utils.encodeFromByteArray(keyPair.getPublic().getEncoded());
+        privateKey = Base64Utils.encodeFromByteArray(keyPair.getPrivate().getEncoded());
+        data = "{\"orderId\":\"FT133532775637581824\",\"amount\":700000.0,\"status\":\"SUCCESS\"}".getBytes(StandardCharsets.UTF_8);
+        sign = RSAUtils.sign(data, privateKey);
+    }
+
+    @Benchmark
+    public String legacySign() throws Exception {
+        PKCS8EncodedKeySpec keySpec = new PKCS8EncodedKeySpec(Base64Utils.decodeFromString(privateKey));
+        Signature signature = Signature.getInstance(RSAUtils.SIGNATURE_ALGORITHM);
+        signature.initSign(KeyFactory.getInstance(RSAUtils.KEY_ALGORITHM).generatePrivate(keySpec));
+        signature.update(data);
+        return Base64Utils.encodeFromByteArray(signature.sign());
+    }
+
+    @Benchmark
+    public String cachedSign() throws Exception {
+        return RSAUtils.sign(data, privateKey);
+    }
+
+    @Benchmark
+    public boolean legacyVerify() throws Exception {
+        X509EncodedKeySpec keySpec = new X509EncodedKeySpec(Base64Utils.decodeFromString(publicKey));
+        Signature signature = Signature.getInstance(RSAUtils.SIGNATURE_ALGORITHM);
+        signature.initVerify(KeyFactory.getInstance(RSAUtils.KEY_ALGORITHM).generatePublic(keySpec));
+        signature.update(data);
+        return signature.verify(Base64Utils.decodeFromString(sign));
+    }
+
+    @Benchmark
+    public boolean cachedVerify() throws Exception {
+        return RSAUtils.verify(data, publicKey, sign);
+    }
+}
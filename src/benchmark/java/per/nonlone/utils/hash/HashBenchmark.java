@@ -0,0 +1,85 @@
+package per.nonlone.utils.hash;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import per.nonlone.utils.digest.MD5Utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 缓存键与分片路由哈希：MD5Utils.md5 与 xxHash64、Murmur3 对比
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class HashBenchmark {
+
+    @Param({"16", "64", "1024"})
+    private int length;
+
+    private String key;
+
+    private byte[] bytes;
+
+    private ConsistentHashRing<String> ring;
+
+    @Setup
+    public void setup() {
+        StringBuilder sb = new StringBuilder();
+        while (sb.length() < length) {
+            sb.append("user:133532775637581824:");
+        }
+        key = sb.substring(0, length);
+        bytes = key.getBytes(StandardCharsets.UTF_8);
+        List<String> nodes = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            nodes.add("shard-" + i);
+        }
+        ring = new ConsistentHashRing<>(nodes);
+    }
+
+    @Benchmark
+    public String md5String() {
+        return MD5Utils.md5(key);
+    }
+
+    @Benchmark
+    public long xxHash64String() {
+        return XXHash64.hash(key);
+    }
+
+    @Benchmark
+    public long murmur3String() {
+        return Murmur3Hash.hash64(key);
+    }
+
+    @Benchmark
+    public long xxHash64Bytes() {
+        return XXHash64.hash(bytes);
+    }
+
+    @Benchmark
+    public byte[] murmur3Bytes128() {
+        return Murmur3Hash.hash128(bytes);
+    }
+
+    @Benchmark
+    public String ringRoute() {
+        return ring.get(key);
+    }
+}
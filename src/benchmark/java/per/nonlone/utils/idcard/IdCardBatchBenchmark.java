@@ -0,0 +1,86 @@
+package per.nonlone.utils.idcard;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import per.nonlone.utils.IdCardUtils;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 1000 万条号码逐行调用 IdCardUtils 与 IdCardBatch 串行、并行对比
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class IdCardBatchBenchmark {
+
+    private static final String[] CITY_CODES = {"1101", "3101", "4401", "4403", "5101", "3301", "4201", "6101"};
+
+    @Param("10000000")
+    private int recordCount;
+
+    private String[] idCards;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(37);
+        idCards = new String[recordCount];
+        char[] buffer = new char[IdCardValidator.CHINA_ID_MAX_LENGTH];
+        for (int i = 0; i < recordCount; i++) {
+            String prefix = CITY_CODES[random.nextInt(CITY_CODES.length)] + String.format("%02d", 1 + random.nextInt(20));
+            String birth = String.format("%04d%02d%02d", 1940 + random.nextInt(80), 1 + random.nextInt(12), 1 + random.nextInt(28));
+            String code17 = prefix + birth + String.format("%03d", random.nextInt(1000));
+            code17.getChars(0, 17, buffer, 0);
+            int powerSum = IdCardUtils.getPowerSum(IdCardUtils.converCharToInt(code17.toCharArray()));
+            buffer[17] = IdCardValidator.checkCode(powerSum);
+            int kind = random.nextInt(20);
+            if (kind == 0) {
+                // 15位号码
+                idCards[i] = prefix + birth.substring(2) + code17.substring(14);
+            } else if (kind == 1) {
+                // 校验码错误
+                buffer[17] = buffer[17] == '0' ? '1' : '0';
+                idCards[i] = new String(buffer);
+            } else {
+                idCards[i] = new String(buffer);
+            }
+        }
+    }
+
+    @Benchmark
+    public void perRow(Blackhole blackhole) {
+        for (String idCard : idCards) {
+            if (IdCardUtils.validateCard(idCard)) {
+                blackhole.consume(idCard.length() == IdCardValidator.CHINA_ID_MIN_LENGTH ? IdCardUtils.conver15CardTo18(idCard) : idCard);
+                blackhole.consume(IdCardUtils.getAgeByIdCard(idCard));
+                blackhole.consume(IdCardUtils.getGenderByIdCard(idCard));
+                blackhole.consume(IdCardUtils.getProvinceByIdCard(idCard));
+                blackhole.consume(IdCardUtils.geCityByIdCard(idCard));
+            }
+        }
+    }
+
+    @Benchmark
+    public IdCardColumns batch() {
+        return IdCardBatch.process(idCards, false);
+    }
+
+    @Benchmark
+    public IdCardColumns batchParallel() {
+        return IdCardBatch.process(idCards, true);
+    }
+}
@@ -0,0 +1,65 @@
+package per.nonlone.utils.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 默认与性能 ObjectMapper 序列化、反序列化对比
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class JacksonBenchmark {
+
+    private static final int SIZE = 1024;
+
+    @Param({"default", "performance"})
+    private String profile;
+
+    private ObjectMapper objectMapper;
+
+    private JacksonUtilsTest.Order[] orders;
+
+    private byte[][] jsons;
+
+    private int index;
+
+    @Setup
+    public void setup() throws Exception {
+        objectMapper = "default".equals(profile) ? JacksonUtils.getDefaultInstance()
+                : JacksonUtils.getPerformanceInstance(JacksonUtilsTest.Order.class);
+        Random random = new Random(26);
+        orders = new JacksonUtilsTest.Order[SIZE];
+        jsons = new byte[SIZE][];
+        for (int i = 0; i < SIZE; i++) {
+            orders[i] = JacksonUtilsTest.Order.random(random);
+            jsons[i] = objectMapper.writeValueAsBytes(orders[i]);
+        }
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(orders[index++ & (SIZE - 1)]);
+    }
+
+    @Benchmark
+    public JacksonUtilsTest.Order deserialize() throws Exception {
+        return objectMapper.readValue(jsons[index++ & (SIZE - 1)], JacksonUtilsTest.Order.class);
+    }
+}
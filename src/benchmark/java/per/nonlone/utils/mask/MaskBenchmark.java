@@ -0,0 +1,148 @@
+package per.nonlone.utils.mask;
+
+import com.alibaba.fastjson.JSON;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import per.nonlone.utils.Desensitization;
+import per.nonlone.utils.fastjson.filter.RegExKeyFilter;
+import per.nonlone.utils.jackson.JacksonUtils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 脱敏与原正则方式对比：单值、fastjson、Jackson 及日志行
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MaskBenchmark {
+
+    private static final String ID_CARD = "44088219940709302X";
+
+    private static final String PHONE = "13800001111";
+
+    private static final String BANK_CARD = "6222020200112233445";
+
+    private static final String LOG_LINE = "apply id=" + ID_CARD + " phone:" + PHONE + " card=" + BANK_CARD + " ts=1548072000990";
+
+    private RegExKeyFilter regExKeyFilter;
+
+    private ObjectMapper objectMapper;
+
+    private PlainUser plainUser;
+
+    private MaskedUser maskedUser;
+
+    @Setup
+    public void setup() {
+        // 原方式：按 Key 正则匹配后以 String.replaceAll 脱敏
+        Map<String, RegExKeyFilter.KeyValueHandler> handlerMap = new LinkedHashMap<>();
+        handlerMap.put("idCard", value -> ((String) value).replaceAll("(\\w{4})\\w{10}(\\w{4})", "$1**********$2"));
+        handlerMap.put("phone", value -> ((String) value).replaceAll("(\\d{3})\\d{4}(\\d{4})", "$1****$2"));
+        handlerMap.put("bankCard", value -> ((String) value).replaceAll("(\\d{4})\\d{8}(\\d{4})", "$1********$2"));
+        regExKeyFilter = new RegExKeyFilter(handlerMap);
+        objectMapper = JacksonUtils.getDefaultInstance();
+        plainUser = new PlainUser();
+        maskedUser = new MaskedUser();
+    }
+
+    @Benchmark
+    public void valueRegex(Blackhole blackhole) {
+        blackhole.consume(ID_CARD.replaceAll("(\\w{4})\\w{10}(\\w{4})", "$1**********$2"));
+        blackhole.consume(PHONE.replaceAll("(\\d{3})\\d{4}(\\d{4})", "$1****$2"));
+        blackhole.consume(BANK_CARD.replaceAll("(\\d{4})\\d{8}(\\d{4})", "$1********$2"));
+    }
+
+    @Benchmark
+    public void valueMask(Blackhole blackhole) {
+        blackhole.consume(Desensitization.idCard(ID_CARD));
+        blackhole.consume(Desensitization.phone(PHONE));
+        blackhole.consume(Desensitization.bankCardNo(BANK_CARD));
+    }
+
+    @Benchmark
+    public String fastjsonRegExKeyFilter() {
+        return JSON.toJSONString(plainUser, regExKeyFilter);
+    }
+
+    @Benchmark
+    public String fastjsonMaskValueFilter() {
+        return JSON.toJSONString(maskedUser, MaskValueFilter.instance);
+    }
+
+    @Benchmark
+    public String jacksonMaskSerializer() throws Exception {
+        return objectMapper.writeValueAsString(maskedUser);
+    }
+
+    /**
+     * 日志行依次套用三个正则，仅作对比，与 maskText 的边界规则不完全一致
+     */
+    @Benchmark
+    public String logLineRegex() {
+        return LOG_LINE.replaceAll("(\\w{4})\\w{10}(\\w{4})", "$1**********$2")
+                .replaceAll("(\\d{3})\\d{4}(\\d{4})", "$1****$2")
+                .replaceAll("(\\d{4})\\d{8}(\\d{4})", "$1********$2");
+    }
+
+    @Benchmark
+    public String logLineMask() {
+        return MaskUtils.maskText(LOG_LINE);
+    }
+
+    public static class PlainUser {
+
+        public String getName() {
+            return "name";
+        }
+
+        public String getIdCard() {
+            return ID_CARD;
+        }
+
+        public String getPhone() {
+            return PHONE;
+        }
+
+        public String getBankCard() {
+            return BANK_CARD;
+        }
+    }
+
+    public static class MaskedUser {
+
+        public String getName() {
+            return "name";
+        }
+
+        @Mask(type = MaskType.ID_CARD)
+        public String getIdCard() {
+            return ID_CARD;
+        }
+
+        @Mask(type = MaskType.PHONE)
+        public String getPhone() {
+            return PHONE;
+        }
+
+        @Mask(type = MaskType.BANK_CARD)
+        public String getBankCard() {
+            return BANK_CARD;
+        }
+    }
+}
@@ -3,6 +3,8 @@ package per.nonlone.utils;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springside.modules.utils.collection.type.ConcurrentHashSet;
+import per.nonlone.utils.datetime.Clocks;
+import per.nonlone.utils.datetime.SecondTextCache;
 
 import java.net.NetworkInterface;
 import java.time.Instant;
@@ -49,6 +51,10 @@ public abstract class Bit10Generator {
      * 时间戳
      */
     private static volatile long lastTimeStamp = 0;
+    /**
+     * 按秒缓存的62进制时间戳
+     */
+    private static final SecondTextCache TIME_STAMP_CACHE = new SecondTextCache(Bit10Generator::getTimeStamp);
 
     /**
      * 获取62进制的时间戳，时间格式为 yMDhms，年份获取当前年份和 {@link Bit10Generator#START_YEAR_OFFSET} 进行偏移
@@ -164,7 +170,7 @@ public abstract class Bit10Generator {
      */
     protected static String doNextId(String appId) {
         lock.lock();
-        long currentTimeMillis = System.currentTimeMillis();
+        long currentTimeMillis = Clocks.currentTimeMillis();
         long currentTimeStamp = currentTimeMillis / 1000;
         int testInt = 0;
         try {
@@ -177,10 +183,10 @@ public abstract class Bit10Generator {
                 // 出现碰撞
                 if (sequence.get() >= MAX_SEQUENCE - 1) {
                     // 循环空转
-                    currentTimeMillis = System.currentTimeMillis();
+                    currentTimeMillis = Clocks.currentTimeMillis();
                     currentTimeStamp = currentTimeMillis / 1000;
                     while (currentTimeStamp <= lastTimeStamp) {
-                        currentTimeMillis = System.currentTimeMillis();
+                        currentTimeMillis = Clocks.currentTimeMillis();
                         currentTimeStamp = currentTimeMillis / 1000;
                     }
                     // 空转结束
@@ -192,7 +198,7 @@ public abstract class Bit10Generator {
             }
             lastTimeStamp = currentTimeStamp;
             // 拼接返回发号器
-            return String.valueOf(MACHINE_ID) + getAppId(appId) + convertToNS62LeftPadding(sequence.get(), 2) + getTimeStamp(currentTimeMillis);
+            return String.valueOf(MACHINE_ID) + getAppId(appId) + convertToNS62LeftPadding(sequence.get(), 2) + TIME_STAMP_CACHE.format(currentTimeMillis);
         } finally {
             lock.unlock();
         }
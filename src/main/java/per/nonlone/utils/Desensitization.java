@@ -1,5 +1,8 @@
 package per.nonlone.utils;
 
+import per.nonlone.utils.mask.MaskType;
+import per.nonlone.utils.mask.MaskUtils;
+
 /**
  * 脱敏工具类
  */
@@ -13,7 +16,7 @@ public abstract class Desensitization {
      * @return
      */
     public static String idCard(String idCard) {
-        return desensitize(idCard, "(\\w{4})\\w{10}(\\w{4})", "$1**********$2");
+        return desensitize(idCard, MaskType.ID_CARD);
     }
 
     /**
@@ -23,7 +26,7 @@ public abstract class Desensitization {
      * @return
      */
     public static String phone(String phone) {
-        return desensitize(phone, "(\\d{3})\\d{4}(\\d{4})", "$1****$2");
+        return desensitize(phone, MaskType.PHONE);
     }
 
 
@@ -34,20 +37,19 @@ public abstract class Desensitization {
      * @return
      */
     public static String bankCardNo(String bankCardNo) {
-        return desensitize(bankCardNo, "(\\d{4})\\d{8}(\\d{4})", "$1********$2");
+        return desensitize(bankCardNo, MaskType.BANK_CARD);
     }
 
     /**
      * 脱敏方法
      *
      * @param source
-     * @param regExp
-     * @param presentExp
+     * @param maskType
      * @return
      */
-    private static String desensitize(String source, String regExp, String presentExp) {
+    private static String desensitize(String source, MaskType maskType) {
         if (StringUtils.isNotBlank(source)) {
-            return source.replaceAll(regExp, presentExp);
+            return MaskUtils.mask(source, maskType);
         }
         return null;
     }
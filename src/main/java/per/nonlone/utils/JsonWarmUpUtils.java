@@ -0,0 +1,201 @@
+package per.nonlone.utils;
+
+import com.alibaba.fastjson.parser.ParserConfig;
+import com.alibaba.fastjson.serializer.SerializeConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.reflect.ClassPath;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import per.nonlone.utils.jackson.JacksonUtils;
+
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * JSON 序列化预热工具
+ * <p>
+ * 启动时预先构建 Jackson 序列化器/反序列化器 以及 fastjson ASM 序列化器/反序列化器，
+ * 避免首个请求承担构建开销，返回每个类型的耗时可用于就绪探针判断
+ * </p>
+ */
+@Slf4j
+public abstract class JsonWarmUpUtils {
+
+    /**
+     * 扫描包下所有类并预热，默认使用缓存的 Jackson 默认实例和性能实例
+     *
+     * @param packageName 包名，包含子包
+     * @param parallel    是否并行预热
+     * @return 每个类型的预热结果
+     * @throws IOException
+     */
+    public static List<WarmUpResult> warmUpPackage(String packageName, boolean parallel) throws IOException {
+        return warmUp(scanClasses(packageName), parallel);
+    }
+
+    /**
+     * 预热指定类型，默认使用缓存的 Jackson 默认实例和性能实例
+     *
+     * @param types
+     * @param parallel 是否并行预热，并行时使用 ForkJoinPool.commonPool()
+     * @return 每个类型的预热结果
+     */
+    public static List<WarmUpResult> warmUp(Collection<Class<?>> types, boolean parallel) {
+        return warmUp(types, defaultObjectMappers(), parallel ? ForkJoinPool.commonPool() : null);
+    }
+
+    /**
+     * 预热指定类型
+     *
+     * @param types
+     * @param objectMappers 需要预热的 ObjectMapper
+     * @param executor      并行执行器，为空时在当前线程串行执行
+     * @return 每个类型的预热结果，顺序与入参一致
+     */
+    public static List<WarmUpResult> warmUp(Collection<Class<?>> types, Collection<ObjectMapper> objectMappers, Executor executor) {
+        if (CollectionUtils.isEmpty(types)) {
+            return Collections.emptyList();
+        }
+        long startNanos = System.nanoTime();
+        List<WarmUpResult> resultList = new ArrayList<>(types.size());
+        if (Objects.isNull(executor)) {
+            for (Class<?> type : types) {
+                resultList.add(warmUpType(type, objectMappers));
+            }
+        } else {
+            List<CompletableFuture<WarmUpResult>> futureList = new ArrayList<>(types.size());
+            for (Class<?> type : types) {
+                futureList.add(CompletableFuture.supplyAsync(() -> warmUpType(type, objectMappers), executor));
+            }
+            for (CompletableFuture<WarmUpResult> future : futureList) {
+                resultList.add(future.join());
+            }
+        }
+        log.info("json warmUp finished types<{}> cost<{}ms>", resultList.size(), (System.nanoTime() - startNanos) / 1000000);
+        return resultList;
+    }
+
+    /**
+     * 扫描包下可实例化的顶层类
+     *
+     * @param packageName
+     * @return
+     * @throws IOException
+     */
+    public static List<Class<?>> scanClasses(String packageName) throws IOException {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (Objects.isNull(classLoader)) {
+            classLoader = JsonWarmUpUtils.class.getClassLoader();
+        }
+        List<Class<?>> classList = new ArrayList<>();
+        for (ClassPath.ClassInfo classInfo : ClassPath.from(classLoader).getTopLevelClassesRecursive(packageName)) {
+            Class<?> clazz;
+            try {
+                clazz = classInfo.load();
+            } catch (Throwable t) {
+                log.warn(String.format("warmUp load class error class<%s>", classInfo.getName()), t);
+                continue;
+            }
+            if (clazz.isInterface() || clazz.isAnnotation() || Modifier.isAbstract(clazz.getModifiers())) {
+                continue;
+            }
+            classList.add(clazz);
+        }
+        return classList;
+    }
+
+    /**
+     * 默认预热的 ObjectMapper
+     *
+     * @return
+     */
+    private static List<ObjectMapper> defaultObjectMappers() {
+        return Arrays.asList(JacksonUtils.getCachedDefaultInstance(), JacksonUtils.getCachedPerformanceInstance());
+    }
+
+    /**
+     * 预热单个类型
+     *
+     * @param type
+     * @param objectMappers
+     * @return
+     */
+    private static WarmUpResult warmUpType(Class<?> type, Collection<ObjectMapper> objectMappers) {
+        long jacksonNanos = 0;
+        long fastjsonNanos = 0;
+        Throwable error = null;
+        try {
+            long startNanos = System.nanoTime();
+            if (CollectionUtils.isNotEmpty(objectMappers)) {
+                for (ObjectMapper objectMapper : objectMappers) {
+                    // 无法构建序列化器/反序列化器同样记为失败，供就绪探针识别
+                    Throwable mapperError = JacksonUtils.warmUpType(objectMapper, type);
+                    if (Objects.nonNull(mapperError) && Objects.isNull(error)) {
+                        log.warn(String.format("warmUp jackson error class<%s>", type.getName()), mapperError);
+                        error = mapperError;
+                    }
+                }
+            }
+            jacksonNanos = System.nanoTime() - startNanos;
+            startNanos = System.nanoTime();
+            SerializeConfig.getGlobalInstance().getObjectWriter(type);
+            ParserConfig.getGlobalInstance().getDeserializer(type);
+            fastjsonNanos = System.nanoTime() - startNanos;
+        } catch (Throwable t) {
+            log.warn(String.format("warmUp error class<%s>", type.getName()), t);
+            error = t;
+        }
+        WarmUpResult warmUpResult = new WarmUpResult(type, jacksonNanos, fastjsonNanos, error);
+        if (log.isDebugEnabled()) {
+            log.debug("json warmUp class<{}> jackson<{}us> fastjson<{}us>", type.getName(), jacksonNanos / 1000, fastjsonNanos / 1000);
+        }
+        return warmUpResult;
+    }
+
+    /**
+     * 单类型预热结果
+     */
+    @Getter
+    public static class WarmUpResult {
+
+        /**
+         * 预热类型
+         */
+        private final Class<?> type;
+
+        /**
+         * Jackson 预热耗时，纳秒
+         */
+        private final long jacksonNanos;
+
+        /**
+         * fastjson 预热耗时，纳秒
+         */
+        private final long fastjsonNanos;
+
+        /**
+         * 预热异常，成功为空
+         */
+        private final Throwable error;
+
+        public WarmUpResult(Class<?> type, long jacksonNanos, long fastjsonNanos, Throwable error) {
+            this.type = type;
+            this.jacksonNanos = jacksonNanos;
+            this.fastjsonNanos = fastjsonNanos;
+            this.error = error;
+        }
+
+        public boolean isSuccess() {
+            return Objects.isNull(error);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s jackson<%dus> fastjson<%dus> success<%s>", type.getName(), jacksonNanos / 1000, fastjsonNanos / 1000, isSuccess());
+        }
+    }
+}
@@ -2,9 +2,8 @@ package per.nonlone.utils;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.RandomStringUtils;
-import org.apache.commons.lang3.time.FastDateFormat;
-
-import java.util.Date;
+import per.nonlone.utils.datetime.Clocks;
+import per.nonlone.utils.datetime.DateTimeStyle;
 
 /**
  * twitter的snowflake算法 -- java实现
@@ -45,10 +44,6 @@ public class SnowFlakeIdGenerator {
      * 内部默认生成器
      */
     private static final SnowFlakeIdGenerator snowFlakeIdGenerator = new SnowFlakeIdGenerator(0, 0);
-    /**
-     * 默认时间格式
-     */
-    private final static FastDateFormat fdf = FastDateFormat.getInstance("ddHHmmss");
     private long datacenterId;  //数据中心
     private long machineId;     //机器标识
     private long sequence = 0L; //序列号
@@ -95,7 +90,7 @@ public class SnowFlakeIdGenerator {
         }
         String time = "";
         try {
-            time = fdf.format(new Date());
+            time = Clocks.currentText(DateTimeStyle.DEFAULT_DDHHMMSS);
         } catch (Exception e) {
             log.error(String.format("getSerialNo prefix<%s>", prefix), e);
             time = "00000000";
@@ -145,7 +140,7 @@ public class SnowFlakeIdGenerator {
     }
 
     private long getNewstmp() {
-        return System.currentTimeMillis();
+        return Clocks.currentTimeMillis();
     }
 
 }
@@ -0,0 +1,160 @@
+package per.nonlone.utils.datetime;
+
+import java.util.Objects;
+
+/**
+ * 基于纪元日的周岁计算
+ * <p>
+ * 按当天预先计算每个周岁的出生日期上限 thresholds[k]，即 k 年前的今天（2月29日在平年取2月28日），
+ * 周岁为满足 出生纪元日 &lt;= thresholds[k] 的最大 k。先按 365 天估算再比较一次即可得到结果，
+ * 不创建日历对象，批量计算为无分支的数组循环
+ * </p>
+ */
+public final class AgeCalculator {
+
+    /**
+     * 预计算的最大周岁
+     */
+    public static final int MAX_AGE = 200;
+
+    private static volatile AgeCalculator defaultInstance;
+
+    /**
+     * 当天纪元日
+     */
+    private final int todayEpochDay;
+
+    /**
+     * thresholds[k] 为周岁达到 k 的最晚出生纪元日
+     */
+    private final int[] thresholds;
+
+    /**
+     * 有效期，仅默认实例使用
+     */
+    private final long validFromMillis;
+
+    private final long validToMillis;
+
+    private final DayBoundaryCalculator dayBoundaryCalculator;
+
+    private AgeCalculator(int todayEpochDay, long validFromMillis, long validToMillis, DayBoundaryCalculator dayBoundaryCalculator) {
+        this.todayEpochDay = todayEpochDay;
+        this.validFromMillis = validFromMillis;
+        this.validToMillis = validToMillis;
+        this.dayBoundaryCalculator = dayBoundaryCalculator;
+        int ymd = EpochDays.toYearMonthDay(todayEpochDay);
+        int year = ymd / 10000;
+        int month = ymd / 100 % 100;
+        int day = ymd % 100;
+        this.thresholds = new int[MAX_AGE + 2];
+        for (int k = 0; k < thresholds.length; k++) {
+            int thresholdYear = year - k;
+            thresholds[k] = EpochDays.toEpochDay(thresholdYear, month, Math.min(day, EpochDays.lengthOfMonth(thresholdYear, month)));
+        }
+    }
+
+    /**
+     * 指定当天的计算器
+     *
+     * @param todayEpochDay
+     * @return
+     */
+    public static AgeCalculator of(int todayEpochDay) {
+        return new AgeCalculator(todayEpochDay, Long.MIN_VALUE, Long.MAX_VALUE, null);
+    }
+
+    /**
+     * 按 {@link Clocks} 和默认时区确定当天的计算器，每天只创建一次
+     *
+     * @return
+     */
+    public static AgeCalculator getDefaultInstance() {
+        long now = Clocks.currentTimeMillis();
+        DayBoundaryCalculator dayBoundaryCalculator = DayBoundaryCalculator.getDefaultInstance();
+        AgeCalculator calculator = defaultInstance;
+        if (Objects.isNull(calculator) || now < calculator.validFromMillis || now > calculator.validToMillis
+                || calculator.dayBoundaryCalculator != dayBoundaryCalculator) {
+            calculator = new AgeCalculator(dayBoundaryCalculator.epochDay(now), dayBoundaryCalculator.startOfDay(now),
+                    dayBoundaryCalculator.endOfDay(now), dayBoundaryCalculator);
+            defaultInstance = calculator;
+        }
+        return calculator;
+    }
+
+    /**
+     * 按默认实例计算周岁
+     *
+     * @param birthEpochDay
+     * @return 出生日期晚于当天返回 0
+     */
+    public static int ageOf(int birthEpochDay) {
+        return getDefaultInstance().age(birthEpochDay);
+    }
+
+    public int getTodayEpochDay() {
+        return todayEpochDay;
+    }
+
+    /**
+     * 周岁
+     *
+     * @param birthEpochDay
+     * @return 出生日期晚于当天返回 0
+     */
+    public int age(int birthEpochDay) {
+        int days = todayEpochDay - birthEpochDay;
+        if (days <= 0) {
+            return 0;
+        }
+        int estimate = days / 365;
+        if (estimate > MAX_AGE) {
+            return slowAge(birthEpochDay);
+        }
+        // 估算值只可能等于周岁或大 1
+        return estimate - (birthEpochDay > thresholds[estimate] ? 1 : 0);
+    }
+
+    /**
+     * 批量计算周岁
+     *
+     * @param birthEpochDays
+     * @return
+     */
+    public int[] ages(int[] birthEpochDays) {
+        int[] ages = new int[birthEpochDays.length];
+        ages(birthEpochDays, 0, birthEpochDays.length, ages, 0);
+        return ages;
+    }
+
+    /**
+     * 批量计算周岁到指定数组
+     *
+     * @param birthEpochDays
+     * @param from
+     * @param to
+     * @param ages
+     * @param offset
+     */
+    public void ages(int[] birthEpochDays, int from, int to, int[] ages, int offset) {
+        int maxDays = (MAX_AGE + 1) * 365 - 1;
+        for (int i = from; i < to; i++) {
+            int birthEpochDay = birthEpochDays[i];
+            int days = Math.max(0, Math.min(todayEpochDay - birthEpochDay, maxDays));
+            int estimate = days / 365;
+            ages[offset + i - from] = estimate - (birthEpochDay > thresholds[estimate] & estimate > 0 ? 1 : 0);
+        }
+        // 超出预计算范围的少量数据单独处理
+        for (int i = from; i < to; i++) {
+            if (todayEpochDay - birthEpochDays[i] > maxDays) {
+                ages[offset + i - from] = slowAge(birthEpochDays[i]);
+            }
+        }
+    }
+
+    private int slowAge(int birthEpochDay) {
+        int today = EpochDays.toYearMonthDay(todayEpochDay);
+        int birth = EpochDays.toYearMonthDay(birthEpochDay);
+        return (today - birth) / 10000;
+    }
+}
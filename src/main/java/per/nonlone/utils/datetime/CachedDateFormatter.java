@@ -0,0 +1,335 @@
+package per.nonlone.utils.datetime;
+
+import org.apache.commons.lang3.time.FastDateFormat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 固定格式日期写出器
+ * <p>
+ * 支持 {@link DateTimeStyle#DEFAULT_YYYY_MM_DD_HH_MM_SS}、{@link DateTimeStyle#DEFAULT_YYYY_MM_DD}、
+ * {@link DateTimeStyle#DEFAULT_YYYYMMDDHHMMSS}，直接写入调用方 char[]，
+ * 日期部分按天缓存，同一天内只计算时分秒。
+ * 年份超出快速路径范围时回退到 {@link FastDateFormat} / {@link DateTimeFormatter}，输出与其一致
+ * </p>
+ */
+public final class CachedDateFormatter {
+
+    /**
+     * 单个日期最大长度，包含回退路径下的超长年份
+     */
+    public static final int MAX_LENGTH = 25;
+
+    /**
+     * 快速路径年份下限，更早的日期 {@link FastDateFormat} 按儒略历输出
+     */
+    private static final int MIN_FAST_YEAR = 1583;
+
+    /**
+     * 快速路径年份上限，年份固定写出四位
+     */
+    private static final int MAX_FAST_YEAR = 9999;
+
+    private static final ConcurrentHashMap<String, CachedDateFormatter> FORMATTER_MAP = new ConcurrentHashMap<>();
+
+    /**
+     * 线程复用缓冲
+     */
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[MAX_LENGTH]);
+
+    private final String pattern;
+
+    /**
+     * 日期分隔符，0 表示无分隔
+     */
+    private final char dateSeparator;
+
+    /**
+     * 日期与时间分隔符，0 表示无分隔
+     */
+    private final char timeSeparator;
+
+    /**
+     * 是否输出时间
+     */
+    private final boolean withTime;
+
+    /**
+     * 时区，为空时每次使用当前默认时区
+     */
+    private final TimeZone timeZone;
+
+    /**
+     * java.time 类型回退格式
+     */
+    private final DateTimeFormatter dateTimeFormatter;
+
+    /**
+     * 最近一天的缓存
+     */
+    private volatile DayPrefix lastDay;
+
+    private CachedDateFormatter(String pattern, char dateSeparator, char timeSeparator, boolean withTime, TimeZone timeZone) {
+        this.pattern = pattern;
+        this.dateSeparator = dateSeparator;
+        this.timeSeparator = timeSeparator;
+        this.withTime = withTime;
+        this.timeZone = timeZone;
+        this.dateTimeFormatter = DateTimeFormatter.ofPattern(pattern);
+    }
+
+    /**
+     * 获取默认时区的写出器，时区在每次写出时读取，跟随 {@link TimeZone#setDefault(TimeZone)}
+     *
+     * @param pattern
+     * @return 不支持的格式返回null
+     */
+    public static CachedDateFormatter getInstance(String pattern) {
+        if (Objects.isNull(pattern)) {
+            return null;
+        }
+        CachedDateFormatter formatter = FORMATTER_MAP.get(pattern);
+        if (Objects.isNull(formatter)) {
+            formatter = create(pattern, null);
+            if (Objects.isNull(formatter)) {
+                return null;
+            }
+            CachedDateFormatter exist = FORMATTER_MAP.putIfAbsent(pattern, formatter);
+            if (Objects.nonNull(exist)) {
+                formatter = exist;
+            }
+        }
+        return formatter;
+    }
+
+    /**
+     * 获取指定时区的写出器，不缓存
+     *
+     * @param pattern
+     * @param timeZone 为空时跟随默认时区
+     * @return 不支持的格式返回null
+     */
+    public static CachedDateFormatter create(String pattern, TimeZone timeZone) {
+        switch (pattern) {
+            case DateTimeStyle.DEFAULT_YYYY_MM_DD_HH_MM_SS:
+                return new CachedDateFormatter(pattern, '-', ' ', true, timeZone);
+            case DateTimeStyle.DEFAULT_YYYY_MM_DD:
+                return new CachedDateFormatter(pattern, '-', (char) 0, false, timeZone);
+            case DateTimeStyle.DEFAULT_YYYYMMDDHHMMSS:
+                return new CachedDateFormatter(pattern, (char) 0, (char) 0, true, timeZone);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * 当前线程复用的缓冲，长度为 {@link #MAX_LENGTH}
+     *
+     * @return
+     */
+    public static char[] threadLocalBuffer() {
+        return BUFFER.get();
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * 写出毫秒时间
+     *
+     * @param millis
+     * @param buffer
+     * @param offset
+     * @return 写出长度
+     */
+    public int format(long millis, char[] buffer, int offset) {
+        TimeZone zone = Objects.nonNull(timeZone) ? timeZone : TimeZone.getDefault();
+        DayPrefix dayPrefix = lastDay;
+        if (Objects.isNull(dayPrefix) || millis < dayPrefix.startMillis || millis >= dayPrefix.endMillis
+                || !dayPrefix.zoneId.equals(zone.getID())) {
+            dayPrefix = buildDayPrefix(millis, zone);
+            if (Objects.isNull(dayPrefix)) {
+                return writeString(FastDateFormat.getInstance(pattern, zone).format(millis), buffer, offset);
+            }
+        }
+        System.arraycopy(dayPrefix.prefix, 0, buffer, offset, dayPrefix.prefix.length);
+        int position = offset + dayPrefix.prefix.length;
+        if (withTime) {
+            int secondOfDay = (int) ((millis + dayPrefix.offsetMillis - dayPrefix.localStartMillis) / 1000);
+            position = writeTime(secondOfDay / 3600, secondOfDay / 60 % 60, secondOfDay % 60, buffer, position);
+        }
+        return position - offset;
+    }
+
+    /**
+     * 写出本地日期时间，忽略时区
+     *
+     * @param localDateTime
+     * @param buffer
+     * @param offset
+     * @return 写出长度
+     */
+    public int format(LocalDateTime localDateTime, char[] buffer, int offset) {
+        if (!isFastYear(localDateTime.getYear(), 1)) {
+            return writeString(dateTimeFormatter.format(localDateTime), buffer, offset);
+        }
+        int position = writeDate(localDateTime.getYear(), localDateTime.getMonthValue(), localDateTime.getDayOfMonth(), buffer, offset);
+        if (withTime) {
+            position = writeTime(localDateTime.getHour(), localDateTime.getMinute(), localDateTime.getSecond(), buffer, position);
+        }
+        return position - offset;
+    }
+
+    /**
+     * 写出本地日期，带时间格式时时间为零点
+     *
+     * @param localDate
+     * @param buffer
+     * @param offset
+     * @return 写出长度
+     */
+    public int format(LocalDate localDate, char[] buffer, int offset) {
+        if (!isFastYear(localDate.getYear(), 1)) {
+            return writeString(dateTimeFormatter.format(withTime ? localDate.atStartOfDay() : localDate), buffer, offset);
+        }
+        int position = writeDate(localDate.getYear(), localDate.getMonthValue(), localDate.getDayOfMonth(), buffer, offset);
+        if (withTime) {
+            position = writeTime(0, 0, 0, buffer, position);
+        }
+        return position - offset;
+    }
+
+    /**
+     * 格式化为字符串
+     *
+     * @param millis
+     * @return
+     */
+    public String format(long millis) {
+        char[] buffer = threadLocalBuffer();
+        return new String(buffer, 0, format(millis, buffer, 0));
+    }
+
+    /**
+     * 构建并缓存所在天的日期前缀，当天存在时区偏移变化时不缓存
+     *
+     * @param millis
+     * @param zone
+     * @return 年份超出快速路径范围返回null
+     */
+    private DayPrefix buildDayPrefix(long millis, TimeZone zone) {
+        int offsetMillis = zone.getOffset(millis);
+        long localMillis = millis + offsetMillis;
+        int epochDay = EpochDays.ofMillis(localMillis);
+        long localStartMillis = epochDay * EpochDays.MILLIS_PER_DAY;
+        int ymd = EpochDays.toYearMonthDay(epochDay);
+        if (!isFastYear(ymd / 10000, MIN_FAST_YEAR)) {
+            return null;
+        }
+        char[] prefix = new char[dateLength()];
+        writeDate(ymd / 10000, ymd / 100 % 100, ymd % 100, prefix, 0);
+        long startMillis = localStartMillis - offsetMillis;
+        long endMillis = startMillis + EpochDays.MILLIS_PER_DAY;
+        DayPrefix dayPrefix = new DayPrefix(zone.getID(), startMillis, endMillis, localStartMillis, offsetMillis, prefix);
+        if (zone.getOffset(startMillis) == offsetMillis && zone.getOffset(endMillis - 1) == offsetMillis) {
+            lastDay = dayPrefix;
+        }
+        return dayPrefix;
+    }
+
+    /**
+     * 日期部分长度，包含日期与时间分隔符
+     *
+     * @return
+     */
+    private int dateLength() {
+        return 8 + (dateSeparator != 0 ? 2 : 0) + (withTime && timeSeparator != 0 ? 1 : 0);
+    }
+
+    /**
+     * 年份是否可走快速路径
+     *
+     * @param year
+     * @param minYear
+     * @return
+     */
+    private static boolean isFastYear(int year, int minYear) {
+        return year >= minYear && year <= MAX_FAST_YEAR;
+    }
+
+    private static int writeString(String text, char[] buffer, int offset) {
+        text.getChars(0, text.length(), buffer, offset);
+        return text.length();
+    }
+
+    private int writeDate(int year, int month, int day, char[] buffer, int position) {
+        buffer[position++] = (char) ('0' + year / 1000 % 10);
+        buffer[position++] = (char) ('0' + year / 100 % 10);
+        buffer[position++] = (char) ('0' + year / 10 % 10);
+        buffer[position++] = (char) ('0' + year % 10);
+        if (dateSeparator != 0) {
+            buffer[position++] = dateSeparator;
+        }
+        position = writeTwoDigits(month, buffer, position);
+        if (dateSeparator != 0) {
+            buffer[position++] = dateSeparator;
+        }
+        position = writeTwoDigits(day, buffer, position);
+        if (withTime && timeSeparator != 0) {
+            buffer[position++] = timeSeparator;
+        }
+        return position;
+    }
+
+    private int writeTime(int hour, int minute, int second, char[] buffer, int position) {
+        boolean separated = dateSeparator != 0;
+        position = writeTwoDigits(hour, buffer, position);
+        if (separated) {
+            buffer[position++] = ':';
+        }
+        position = writeTwoDigits(minute, buffer, position);
+        if (separated) {
+            buffer[position++] = ':';
+        }
+        return writeTwoDigits(second, buffer, position);
+    }
+
+    private static int writeTwoDigits(int value, char[] buffer, int position) {
+        buffer[position++] = (char) ('0' + value / 10);
+        buffer[position++] = (char) ('0' + value % 10);
+        return position;
+    }
+
+    /**
+     * 单日日期前缀缓存
+     */
+    private static final class DayPrefix {
+
+        private final String zoneId;
+
+        private final long startMillis;
+
+        private final long endMillis;
+
+        private final long localStartMillis;
+
+        private final int offsetMillis;
+
+        private final char[] prefix;
+
+        private DayPrefix(String zoneId, long startMillis, long endMillis, long localStartMillis, int offsetMillis, char[] prefix) {
+            this.zoneId = zoneId;
+            this.startMillis = startMillis;
+            this.endMillis = endMillis;
+            this.localStartMillis = localStartMillis;
+            this.offsetMillis = offsetMillis;
+            this.prefix = prefix;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package per.nonlone.utils.datetime;
+
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 后台刷新的缓存时钟
+ * <p>
+ * 由守护线程按固定间隔刷新当前时间，读取只是一次 volatile 读，
+ * 精度为刷新间隔，适合日志、流水号等对精度要求不高的热点路径
+ * </p>
+ */
+public final class CachedMillisClock implements MillisClock {
+
+    /**
+     * 默认刷新间隔，毫秒
+     */
+    public static final long DEFAULT_TICK_MILLIS = 1L;
+
+    private static volatile CachedMillisClock instance;
+
+    private final ScheduledExecutorService scheduledExecutorService;
+
+    private final ScheduledFuture<?> scheduledFuture;
+
+    private volatile long now;
+
+    /**
+     * 创建缓存时钟
+     *
+     * @param tickMillis 刷新间隔，毫秒
+     */
+    public CachedMillisClock(long tickMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis must be greater than 0");
+        }
+        this.now = System.currentTimeMillis();
+        this.scheduledExecutorService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cached-millis-clock");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduledFuture = scheduledExecutorService.scheduleAtFixedRate(
+                () -> now = System.currentTimeMillis(), tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 共享实例，首次调用时启动，刷新间隔为 {@link #DEFAULT_TICK_MILLIS}
+     *
+     * @return
+     */
+    public static CachedMillisClock getInstance() {
+        if (Objects.isNull(instance)) {
+            synchronized (CachedMillisClock.class) {
+                if (Objects.isNull(instance)) {
+                    instance = new CachedMillisClock(DEFAULT_TICK_MILLIS);
+                }
+            }
+        }
+        return instance;
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return now;
+    }
+
+    /**
+     * 停止刷新，停止后时间不再变化
+     */
+    public void shutdown() {
+        scheduledFuture.cancel(false);
+        scheduledExecutorService.shutdown();
+    }
+}
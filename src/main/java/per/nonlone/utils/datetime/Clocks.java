@@ -0,0 +1,61 @@
+package per.nonlone.utils.datetime;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 全局时钟
+ * <p>
+ * 发号器和日期工具统一从这里取当前时间，默认为系统时钟，
+ * 可替换为 {@link CachedMillisClock} 降低热点路径开销，或在测试中替换为 {@link SettableMillisClock}
+ * </p>
+ */
+public abstract class Clocks {
+
+    /**
+     * 系统时钟
+     */
+    public static final MillisClock SYSTEM = System::currentTimeMillis;
+
+    private static final ConcurrentHashMap<String, SecondTextCache> TEXT_CACHE_MAP = new ConcurrentHashMap<>();
+
+    private static volatile MillisClock defaultClock = SYSTEM;
+
+    static {
+        TEXT_CACHE_MAP.put(DateTimeStyle.DEFAULT_YYYYMMDDHHMMSS, SecondTextCache.ofPattern(DateTimeStyle.DEFAULT_YYYYMMDDHHMMSS));
+        TEXT_CACHE_MAP.put(DateTimeStyle.DEFAULT_DDHHMMSS, SecondTextCache.ofPattern(DateTimeStyle.DEFAULT_DDHHMMSS));
+    }
+
+    public static MillisClock getDefault() {
+        return defaultClock;
+    }
+
+    /**
+     * 替换全局时钟
+     *
+     * @param clock 为空时恢复系统时钟
+     */
+    public static void setDefault(MillisClock clock) {
+        defaultClock = Objects.isNull(clock) ? SYSTEM : clock;
+    }
+
+    /**
+     * 全局时钟当前毫秒
+     *
+     * @return
+     */
+    public static long currentTimeMillis() {
+        return defaultClock.currentTimeMillis();
+    }
+
+    /**
+     * 按秒缓存的当前时间文本
+     *
+     * @param pattern 仅支持 {@link DateTimeStyle#DEFAULT_YYYYMMDDHHMMSS}、{@link DateTimeStyle#DEFAULT_DDHHMMSS}
+     * @return 其他格式返回 null
+     */
+    public static String currentText(String pattern) {
+        SecondTextCache secondTextCache = Objects.isNull(pattern) ? null : TEXT_CACHE_MAP.get(pattern);
+        return Objects.isNull(secondTextCache) ? null : secondTextCache.format(defaultClock);
+    }
+}
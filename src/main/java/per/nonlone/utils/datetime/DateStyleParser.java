@@ -0,0 +1,294 @@
+package per.nonlone.utils.datetime;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.TimeZone;
+
+/**
+ * {@link DateTimeStyle} 格式族快速解析
+ * <p>
+ * 按长度与分隔符分派到手写的数字扫描，覆盖 parsePatterns、parsePatternsHyphen、parsePatternsSlash 中的全部格式，
+ * 解析失败返回 {@link #INVALID} 而不抛出异常。与 SimpleDateFormat 宽松模式不同，月日时分秒越界视为非法
+ * </p>
+ */
+public abstract class DateStyleParser {
+
+    /**
+     * 解析失败标识
+     */
+    public static final long INVALID = Long.MIN_VALUE;
+
+    private static final char YEAR_CN = '年';
+    private static final char MONTH_CN = '月';
+    private static final char DAY_CN = '日';
+
+    /**
+     * 使用默认时区解析
+     *
+     * @param text
+     * @return 失败返回 null
+     */
+    public static Date parse(CharSequence text) {
+        long millis = parseMillis(text, TimeZone.getDefault());
+        return millis == INVALID ? null : new Date(millis);
+    }
+
+    /**
+     * 使用默认时区解析
+     *
+     * @param text
+     * @return 毫秒时间戳，失败返回 {@link #INVALID}
+     */
+    public static long parseMillis(CharSequence text) {
+        return parseMillis(text, TimeZone.getDefault());
+    }
+
+    /**
+     * 解析为毫秒时间戳
+     *
+     * @param text
+     * @param timeZone
+     * @return 毫秒时间戳，失败返回 {@link #INVALID}
+     */
+    public static long parseMillis(CharSequence text, TimeZone timeZone) {
+        long localMillis = parseLocalMillis(text);
+        if (localMillis == INVALID) {
+            return INVALID;
+        }
+        return toUtcMillis(localMillis, timeZone);
+    }
+
+    /**
+     * 批量解析，使用默认时区
+     *
+     * @param column
+     * @return 与入参等长的毫秒时间戳，失败项为 {@link #INVALID}
+     */
+    public static long[] parseMillis(String[] column) {
+        long[] result = new long[column.length];
+        parseMillis(column, result, TimeZone.getDefault());
+        return result;
+    }
+
+    /**
+     * 批量解析，使用默认时区
+     *
+     * @param column
+     * @return 与入参等长的毫秒时间戳，失败项为 {@link #INVALID}
+     */
+    public static long[] parseMillis(List<? extends CharSequence> column) {
+        long[] result = new long[column.size()];
+        TimeZone timeZone = TimeZone.getDefault();
+        int i = 0;
+        for (CharSequence text : column) {
+            result[i++] = parseMillis(text, timeZone);
+        }
+        return result;
+    }
+
+    /**
+     * 批量解析到指定数组
+     *
+     * @param column
+     * @param result   长度不小于 column
+     * @param timeZone
+     * @return 失败数量
+     */
+    public static int parseMillis(CharSequence[] column, long[] result, TimeZone timeZone) {
+        int failed = 0;
+        for (int i = 0; i < column.length; i++) {
+            long millis = parseMillis(column[i], timeZone);
+            if (millis == INVALID) {
+                failed++;
+            }
+            result[i] = millis;
+        }
+        return failed;
+    }
+
+    /**
+     * 解析为本地毫秒，即不含时区偏移的纪元毫秒
+     *
+     * @param text
+     * @return 失败返回 {@link #INVALID}
+     */
+    public static long parseLocalMillis(CharSequence text) {
+        if (Objects.isNull(text)) {
+            return INVALID;
+        }
+        int start = 0;
+        int end = text.length();
+        while (start < end && text.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && text.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        int length = end - start;
+        if (length < 4) {
+            return INVALID;
+        }
+        int year = digits(text, start, 4);
+        if (year < 0) {
+            return INVALID;
+        }
+        if (length == 4) {
+            // yyyy
+            return toLocalMillis(year, 1, 1, 0, 0, 0);
+        }
+        char separator = text.charAt(start + 4);
+        if (isDigit(separator)) {
+            return parseCompact(text, start, length, year);
+        }
+        if (separator == YEAR_CN) {
+            return parseChinese(text, start + 5, end, year);
+        }
+        if (separator == '-' || separator == '/' || separator == '.') {
+            return parseSeparated(text, start + 5, end, year, separator);
+        }
+        return INVALID;
+    }
+
+    /**
+     * yyyyMM、yyyyMMdd、yyyyMMddHHmmss
+     */
+    private static long parseCompact(CharSequence text, int start, int length, int year) {
+        switch (length) {
+            case 6:
+                return toLocalMillis(year, digits(text, start + 4, 2), 1, 0, 0, 0);
+            case 8:
+                return toLocalMillis(year, digits(text, start + 4, 2), digits(text, start + 6, 2), 0, 0, 0);
+            case 14:
+                return toLocalMillis(year, digits(text, start + 4, 2), digits(text, start + 6, 2),
+                        digits(text, start + 8, 2), digits(text, start + 10, 2), digits(text, start + 12, 2));
+            default:
+                return INVALID;
+        }
+    }
+
+    /**
+     * yyyy年MM月dd日、yyyy年MM月、yyyy年M月、yyyy年MM月dd
+     */
+    private static long parseChinese(CharSequence text, int position, int end, int year) {
+        int monthEnd = digitsEnd(text, position, end, 2);
+        if (monthEnd == position || monthEnd >= end || text.charAt(monthEnd) != MONTH_CN) {
+            return INVALID;
+        }
+        int month = digits(text, position, monthEnd - position);
+        position = monthEnd + 1;
+        if (position == end) {
+            return toLocalMillis(year, month, 1, 0, 0, 0);
+        }
+        int dayEnd = digitsEnd(text, position, end, 2);
+        if (dayEnd == position) {
+            return INVALID;
+        }
+        int day = digits(text, position, dayEnd - position);
+        if (dayEnd < end && text.charAt(dayEnd) == DAY_CN) {
+            dayEnd++;
+        }
+        return dayEnd == end ? toLocalMillis(year, month, day, 0, 0, 0) : INVALID;
+    }
+
+    /**
+     * yyyy-M[M][-d[d]][[ ]H[H]:mm[:ss]]、yyyy/MM/dd[ HH:mm[:ss]]、yyyy.MM.ddHH:mm:ss
+     */
+    private static long parseSeparated(CharSequence text, int position, int end, int year, char separator) {
+        int monthEnd = digitsEnd(text, position, end, 2);
+        if (monthEnd == position) {
+            return INVALID;
+        }
+        int month = digits(text, position, monthEnd - position);
+        if (monthEnd == end) {
+            // yyyy-MM
+            return separator == '-' ? toLocalMillis(year, month, 1, 0, 0, 0) : INVALID;
+        }
+        if (text.charAt(monthEnd) != separator) {
+            return INVALID;
+        }
+        position = monthEnd + 1;
+        int dayEnd = digitsEnd(text, position, end, 2);
+        if (dayEnd == position) {
+            return INVALID;
+        }
+        int day = digits(text, position, dayEnd - position);
+        if (dayEnd == end) {
+            return separator == '.' ? INVALID : toLocalMillis(year, month, day, 0, 0, 0);
+        }
+        position = dayEnd;
+        if (text.charAt(position) == ' ') {
+            position++;
+        }
+        int hourEnd = digitsEnd(text, position, end, 2);
+        if (hourEnd == position || hourEnd + 3 > end || text.charAt(hourEnd) != ':') {
+            return INVALID;
+        }
+        int hour = digits(text, position, hourEnd - position);
+        int minute = digits(text, hourEnd + 1, 2);
+        position = hourEnd + 3;
+        int second = 0;
+        if (position < end) {
+            if (position + 3 != end || text.charAt(position) != ':') {
+                return INVALID;
+            }
+            second = digits(text, position + 1, 2);
+        }
+        return toLocalMillis(year, month, day, hour, minute, second);
+    }
+
+    /**
+     * 本地毫秒转 UTC 毫秒
+     *
+     * @param localMillis
+     * @param timeZone
+     * @return
+     */
+    private static long toUtcMillis(long localMillis, TimeZone timeZone) {
+        int offset = timeZone.getOffset(localMillis - timeZone.getOffset(localMillis));
+        return localMillis - offset;
+    }
+
+    private static long toLocalMillis(int year, int month, int day, int hour, int minute, int second) {
+        if (month < 0 || day < 0 || hour < 0 || minute < 0 || second < 0) {
+            return INVALID;
+        }
+        if (!EpochDays.isValid(year, month, day) || hour > 23 || minute > 59 || second > 59) {
+            return INVALID;
+        }
+        long epochDay = EpochDays.toEpochDay(year, month, day);
+        return epochDay * EpochDays.MILLIS_PER_DAY + (hour * 3600 + minute * 60 + second) * 1000L;
+    }
+
+    /**
+     * 读取定长数字
+     *
+     * @return 非数字返回 -1
+     */
+    private static int digits(CharSequence text, int position, int count) {
+        int value = 0;
+        for (int i = position, end = position + count; i < end; i++) {
+            char c = text.charAt(i);
+            if (!isDigit(c)) {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    /**
+     * 最多 max 位连续数字的结束位置
+     */
+    private static int digitsEnd(CharSequence text, int position, int end, int max) {
+        int i = position;
+        while (i < end && i - position < max && isDigit(text.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -8,6 +8,7 @@ public abstract class DateTimeStyle {
     public final static String DEFAULT_YYYYMMDDHHMMSS = "yyyyMMddHHmmss";
     public final static String DEFAULT_YYYY_MM_DD = "yyyy-MM-dd";
     public final static String DEFAULT_YYYY_MM_DD_HH_MM_SS = "yyyy-MM-dd HH:mm:ss";
+    public final static String DEFAULT_DDHHMMSS = "ddHHmmss";
 
     public static String[] parsePatterns = {
             DEFAULT_YYYYMMDDHHMMSS,
@@ -2,11 +2,11 @@ package per.nonlone.utils.datetime;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.time.FastDateFormat;
-import org.joda.time.DateTime;
 
 import java.text.ParseException;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.Objects;
 
 
 /**
@@ -16,20 +16,20 @@ import java.util.Date;
 public abstract class DateUtils extends org.apache.commons.lang3.time.DateUtils {
 
     public static Date getStartTime(Date date) {
-        return new DateTime(date).withTimeAtStartOfDay().toDate();
+        return new Date(DayBoundaryCalculator.getDefaultInstance().startOfDay(date.getTime()));
     }
 
 
     public static Date getEndTime(Date date) {
-        return new DateTime(date).withTimeAtStartOfDay().plusDays(1).minus(1).toDate();
+        return new Date(DayBoundaryCalculator.getDefaultInstance().endOfDay(date.getTime()));
     }
 
     public static Date getTodayStartTime() {
-        return DateTime.now().withTimeAtStartOfDay().plusDays(1).minus(1).toDate();
+        return new Date(DayBoundaryCalculator.getDefaultInstance().startOfDay(Clocks.currentTimeMillis()));
     }
 
     public static Date getTodayEndTime() {
-        return DateTime.now().withTimeAtStartOfDay().plusDays(1).minus(1).toDate();
+        return new Date(DayBoundaryCalculator.getDefaultInstance().endOfDay(Clocks.currentTimeMillis()));
     }
 
     public static Date getPervMonth() {
@@ -39,7 +39,11 @@ public abstract class DateUtils extends org.apache.commons.lang3.time.DateUtils
     }
 
     public static String currentDateFormat(String format) {
-        return FastDateFormat.getInstance(format).format(new Date());
+        String text = Clocks.currentText(format);
+        if (Objects.nonNull(text)) {
+            return text;
+        }
+        return FastDateFormat.getInstance(format).format(Clocks.currentTimeMillis());
     }
 
     /**
@@ -64,4 +68,14 @@ public abstract class DateUtils extends org.apache.commons.lang3.time.DateUtils
     public static Date pares(String source, String pattern) throws ParseException {
         return FastDateFormat.getInstance(pattern).parse(source);
     }
-}
\ No newline at end of file
+
+    /**
+     * 按 {@link DateTimeStyle} 全部格式解析字符串，不抛出异常
+     *
+     * @param source
+     * @return 无法解析返回 null
+     */
+    public static Date parseStyleDate(String source) {
+        return DateStyleParser.parse(source);
+    }
+}
@@ -0,0 +1,358 @@
+package per.nonlone.utils.datetime;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 时区感知的日/周/月边界计算
+ * <p>
+ * 创建时预先展开时区 {@link #CACHED_START_YEAR} 至 {@link #CACHED_END_YEAR} 年的偏移变化点，
+ * 之后全部基于纪元毫秒整数运算，不创建日历对象。
+ * 夏令时跳过零点时，当天开始时间为跳变时刻；零点重复时取较早时刻
+ * </p>
+ */
+public final class DayBoundaryCalculator {
+
+    /**
+     * 偏移变化点缓存起始年
+     */
+    public static final int CACHED_START_YEAR = 1900;
+
+    /**
+     * 偏移变化点缓存结束年
+     */
+    public static final int CACHED_END_YEAR = 2100;
+
+    /**
+     * 偏移变化的最大影响范围，用于本地时间反推
+     */
+    private static final long MAX_OFFSET_MILLIS = 26 * 3600 * 1000L;
+
+    private static final ConcurrentHashMap<String, DayBoundaryCalculator> CALCULATOR_MAP = new ConcurrentHashMap<>();
+
+    private final ZoneId zoneId;
+
+    private final ZoneRules zoneRules;
+
+    /**
+     * 偏移变化时刻，升序
+     */
+    private final long[] transitions;
+
+    /**
+     * offsets[i] 为 transitions[i-1] 至 transitions[i] 之间的偏移毫秒，长度为 transitions.length + 1
+     */
+    private final int[] offsets;
+
+    /**
+     * 缓存范围
+     */
+    private final long cachedStartMillis;
+
+    private final long cachedEndMillis;
+
+    private DayBoundaryCalculator(ZoneId zoneId) {
+        this.zoneId = zoneId;
+        this.zoneRules = zoneId.getRules();
+        this.cachedStartMillis = EpochDays.toEpochDay(CACHED_START_YEAR, 1, 1) * EpochDays.MILLIS_PER_DAY;
+        this.cachedEndMillis = EpochDays.toEpochDay(CACHED_END_YEAR + 1, 1, 1) * EpochDays.MILLIS_PER_DAY;
+        List<ZoneOffsetTransition> transitionList = new ArrayList<>();
+        if (!zoneRules.isFixedOffset()) {
+            ZoneOffsetTransition transition = zoneRules.nextTransition(Instant.ofEpochMilli(cachedStartMillis));
+            while (Objects.nonNull(transition) && transition.getInstant().toEpochMilli() < cachedEndMillis) {
+                transitionList.add(transition);
+                transition = zoneRules.nextTransition(transition.getInstant());
+            }
+        }
+        this.transitions = new long[transitionList.size()];
+        this.offsets = new int[transitionList.size() + 1];
+        this.offsets[0] = zoneRules.getOffset(Instant.ofEpochMilli(cachedStartMillis)).getTotalSeconds() * 1000;
+        for (int i = 0; i < transitionList.size(); i++) {
+            ZoneOffsetTransition transition = transitionList.get(i);
+            this.transitions[i] = transition.getInstant().toEpochMilli();
+            this.offsets[i + 1] = transition.getOffsetAfter().getTotalSeconds() * 1000;
+        }
+    }
+
+    /**
+     * 获取指定时区的计算器
+     *
+     * @param zoneId
+     * @return
+     */
+    public static DayBoundaryCalculator getInstance(ZoneId zoneId) {
+        return CALCULATOR_MAP.computeIfAbsent(zoneId.getId(), id -> new DayBoundaryCalculator(zoneId));
+    }
+
+    /**
+     * 获取默认时区的计算器
+     *
+     * @return
+     */
+    public static DayBoundaryCalculator getDefaultInstance() {
+        TimeZone timeZone = TimeZone.getDefault();
+        DayBoundaryCalculator calculator = CALCULATOR_MAP.get(timeZone.getID());
+        if (Objects.isNull(calculator)) {
+            calculator = getInstance(timeZone.toZoneId());
+        }
+        return calculator;
+    }
+
+    public ZoneId getZoneId() {
+        return zoneId;
+    }
+
+    /**
+     * 时区偏移
+     *
+     * @param millis UTC 毫秒
+     * @return 偏移毫秒
+     */
+    public int offsetAt(long millis) {
+        if (transitions.length == 0) {
+            return offsets[0];
+        }
+        if (millis < cachedStartMillis || millis >= cachedEndMillis) {
+            return zoneRules.getOffset(Instant.ofEpochMilli(millis)).getTotalSeconds() * 1000;
+        }
+        return offsets[intervalIndex(millis)];
+    }
+
+    /**
+     * 本地纪元日
+     *
+     * @param millis
+     * @return
+     */
+    public int epochDay(long millis) {
+        return EpochDays.ofMillis(millis + offsetAt(millis));
+    }
+
+    /**
+     * 本地纪元日零点对应的 UTC 毫秒
+     *
+     * @param epochDay
+     * @return
+     */
+    public long startOfEpochDay(int epochDay) {
+        return localToUtc(epochDay * EpochDays.MILLIS_PER_DAY);
+    }
+
+    /**
+     * 当天开始时间
+     *
+     * @param millis
+     * @return
+     */
+    public long startOfDay(long millis) {
+        return startOfEpochDay(epochDay(millis));
+    }
+
+    /**
+     * 当天结束时间，即次日开始前 1 毫秒
+     *
+     * @param millis
+     * @return
+     */
+    public long endOfDay(long millis) {
+        return startOfEpochDay(epochDay(millis) + 1) - 1;
+    }
+
+    /**
+     * 当周开始时间，周一为每周第一天
+     *
+     * @param millis
+     * @return
+     */
+    public long startOfWeek(long millis) {
+        int epochDay = epochDay(millis);
+        return startOfEpochDay(epochDay - EpochDays.dayOfWeek(epochDay) + 1);
+    }
+
+    /**
+     * 当周结束时间
+     *
+     * @param millis
+     * @return
+     */
+    public long endOfWeek(long millis) {
+        int epochDay = epochDay(millis);
+        return startOfEpochDay(epochDay - EpochDays.dayOfWeek(epochDay) + 8) - 1;
+    }
+
+    /**
+     * 当月开始时间
+     *
+     * @param millis
+     * @return
+     */
+    public long startOfMonth(long millis) {
+        int ymd = EpochDays.toYearMonthDay(epochDay(millis));
+        return startOfEpochDay(EpochDays.toEpochDay(ymd / 10000, ymd / 100 % 100, 1));
+    }
+
+    /**
+     * 当月结束时间
+     *
+     * @param millis
+     * @return
+     */
+    public long endOfMonth(long millis) {
+        int ymd = EpochDays.toYearMonthDay(epochDay(millis));
+        int year = ymd / 10000;
+        int month = ymd / 100 % 100;
+        return startOfEpochDay(EpochDays.toEpochDay(year, month, 1) + EpochDays.lengthOfMonth(year, month)) - 1;
+    }
+
+    public Date startOfDay(Date date) {
+        return new Date(startOfDay(date.getTime()));
+    }
+
+    public Date endOfDay(Date date) {
+        return new Date(endOfDay(date.getTime()));
+    }
+
+    /**
+     * 批量转换本地纪元日
+     *
+     * @param millis
+     * @return
+     */
+    public int[] toEpochDays(long[] millis) {
+        int[] epochDays = new int[millis.length];
+        toEpochDays(millis, 0, millis.length, epochDays, 0);
+        return epochDays;
+    }
+
+    /**
+     * 批量按天分桶，桶序号为相对 originMillis 所在天的天数差
+     *
+     * @param millis
+     * @param originMillis
+     * @return
+     */
+    public int[] toDayIndexes(long[] millis, long originMillis) {
+        int[] dayIndexes = toEpochDays(millis);
+        int originDay = epochDay(originMillis);
+        for (int i = 0; i < dayIndexes.length; i++) {
+            dayIndexes[i] -= originDay;
+        }
+        return dayIndexes;
+    }
+
+    /**
+     * 批量转换本地纪元日到指定数组
+     * <p>
+     * 固定偏移时区为纯算术循环；其余时区复用上一元素所在的偏移区间，有序或聚集的数据基本不需要二分查找
+     * </p>
+     *
+     * @param millis
+     * @param from
+     * @param to
+     * @param epochDays
+     * @param offset
+     */
+    public void toEpochDays(long[] millis, int from, int to, int[] epochDays, int offset) {
+        if (transitions.length == 0) {
+            long fixedOffset = offsets[0];
+            for (int i = from; i < to; i++) {
+                epochDays[offset + i - from] = (int) Math.floorDiv(millis[i] + fixedOffset, EpochDays.MILLIS_PER_DAY);
+            }
+            return;
+        }
+        long intervalStart = Long.MAX_VALUE;
+        long intervalEnd = Long.MIN_VALUE;
+        long intervalOffset = 0;
+        for (int i = from; i < to; i++) {
+            long value = millis[i];
+            if (value < intervalStart || value >= intervalEnd) {
+                if (value < cachedStartMillis || value >= cachedEndMillis) {
+                    epochDays[offset + i - from] = epochDay(value);
+                    continue;
+                }
+                int index = intervalIndex(value);
+                intervalStart = index == 0 ? cachedStartMillis : transitions[index - 1];
+                intervalEnd = index == transitions.length ? cachedEndMillis : transitions[index];
+                intervalOffset = offsets[index];
+            }
+            epochDays[offset + i - from] = (int) Math.floorDiv(value + intervalOffset, EpochDays.MILLIS_PER_DAY);
+        }
+    }
+
+    /**
+     * 本地毫秒转 UTC 毫秒，跳变空隙返回跳变时刻，重复时间返回较早时刻
+     *
+     * @param localMillis
+     * @return
+     */
+    private long localToUtc(long localMillis) {
+        int offsetBefore = offsetAt(localMillis - MAX_OFFSET_MILLIS);
+        int offsetAfter = offsetAt(localMillis + MAX_OFFSET_MILLIS);
+        long utcBefore = localMillis - offsetBefore;
+        if (offsetBefore == offsetAfter) {
+            return utcBefore;
+        }
+        long utcAfter = localMillis - offsetAfter;
+        boolean validBefore = offsetAt(utcBefore) == offsetBefore;
+        boolean validAfter = offsetAt(utcAfter) == offsetAfter;
+        if (validBefore && validAfter) {
+            return Math.min(utcBefore, utcAfter);
+        } else if (validBefore) {
+            return utcBefore;
+        } else if (validAfter) {
+            return utcAfter;
+        }
+        // 处于跳变空隙，取跳变时刻
+        return nextTransition(Math.min(utcBefore, utcAfter));
+    }
+
+    /**
+     * 指定时刻之后的首个偏移变化时刻
+     *
+     * @param millis
+     * @return
+     */
+    private long nextTransition(long millis) {
+        if (transitions.length > 0 && millis >= cachedStartMillis && millis < cachedEndMillis) {
+            int index = intervalIndex(millis);
+            if (index < transitions.length) {
+                return transitions[index];
+            }
+        }
+        ZoneOffsetTransition transition = zoneRules.nextTransition(Instant.ofEpochMilli(millis));
+        return Objects.isNull(transition) ? millis : transition.getInstant().toEpochMilli();
+    }
+
+    /**
+     * 所在偏移区间序号，即不大于 millis 的变化点个数
+     *
+     * @param millis
+     * @return
+     */
+    private int intervalIndex(long millis) {
+        int low = 0;
+        int high = transitions.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (transitions[mid] <= millis) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public String toString() {
+        return "DayBoundaryCalculator<" + zoneId + ">";
+    }
+}
@@ -0,0 +1,125 @@
+package per.nonlone.utils.datetime;
+
+/**
+ * 纪元日换算工具，基于整数运算，不创建日历对象
+ * <p>
+ * 纪元日为 1970-01-01 起算的天数，年月日打包为 yyyyMMdd 形式的整数
+ * </p>
+ */
+public abstract class EpochDays {
+
+    /**
+     * 每天毫秒数
+     */
+    public static final long MILLIS_PER_DAY = 86400000L;
+
+    /**
+     * 400年周期天数
+     */
+    private static final int DAYS_PER_CYCLE = 146097;
+
+    /**
+     * 0000-03-01 至 1970-01-01 天数
+     */
+    private static final int DAYS_0000_TO_1970 = 719468;
+
+    /**
+     * 年月日转纪元日
+     *
+     * @param year
+     * @param month 1-12
+     * @param day   1-31
+     * @return
+     */
+    public static int toEpochDay(int year, int month, int day) {
+        int y = month <= 2 ? year - 1 : year;
+        int era = Math.floorDiv(y, 400);
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * DAYS_PER_CYCLE + dayOfEra - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * 纪元日转 yyyyMMdd 整数
+     *
+     * @param epochDay
+     * @return
+     */
+    public static int toYearMonthDay(int epochDay) {
+        int z = epochDay + DAYS_0000_TO_1970;
+        int era = Math.floorDiv(z, DAYS_PER_CYCLE);
+        int dayOfEra = z - era * DAYS_PER_CYCLE;
+        int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        int mp = (5 * dayOfYear + 2) / 153;
+        int day = dayOfYear - (153 * mp + 2) / 5 + 1;
+        int month = mp < 10 ? mp + 3 : mp - 9;
+        int year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        return year * 10000 + month * 100 + day;
+    }
+
+    /**
+     * 毫秒转纪元日
+     *
+     * @param millis 本地毫秒，已加时区偏移
+     * @return
+     */
+    public static int ofMillis(long millis) {
+        return (int) Math.floorDiv(millis, MILLIS_PER_DAY);
+    }
+
+    /**
+     * 星期，1为周一，7为周日
+     *
+     * @param epochDay
+     * @return
+     */
+    public static int dayOfWeek(int epochDay) {
+        // 1970-01-01 为周四
+        return Math.floorMod(epochDay + 3, 7) + 1;
+    }
+
+    /**
+     * 闰年判断
+     *
+     * @param year
+     * @return
+     */
+    public static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    /**
+     * 月份天数
+     *
+     * @param year
+     * @param month 1-12
+     * @return
+     */
+    public static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return isLeapYear(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * 年月日是否合法
+     *
+     * @param year
+     * @param month
+     * @param day
+     * @return
+     */
+    public static boolean isValid(int year, int month, int day) {
+        return month >= 1 && month <= 12 && day >= 1 && day <= lengthOfMonth(year, month);
+    }
+}
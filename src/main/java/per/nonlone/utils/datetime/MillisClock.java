@@ -0,0 +1,27 @@
+package per.nonlone.utils.datetime;
+
+/**
+ * 毫秒时钟
+ * <p>
+ * 替代直接调用 {@link System#currentTimeMillis()}，便于切换缓存时钟或在测试中固定时间
+ * </p>
+ */
+@FunctionalInterface
+public interface MillisClock {
+
+    /**
+     * 当前毫秒时间戳
+     *
+     * @return
+     */
+    long currentTimeMillis();
+
+    /**
+     * 当前秒级时间戳
+     *
+     * @return
+     */
+    default long currentTimeSeconds() {
+        return currentTimeMillis() / 1000;
+    }
+}
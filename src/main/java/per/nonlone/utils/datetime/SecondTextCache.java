@@ -0,0 +1,92 @@
+package per.nonlone.utils.datetime;
+
+import org.apache.commons.lang3.time.FastDateFormat;
+
+import java.util.Objects;
+import java.util.TimeZone;
+import java.util.function.LongFunction;
+
+/**
+ * 按秒缓存的时间文本
+ * <p>
+ * 同一秒内重复格式化直接返回上次结果，只有跨秒时才重新生成
+ * </p>
+ */
+public final class SecondTextCache {
+
+    /**
+     * 按格式创建时的格式，自定义转换时为 null
+     */
+    private final String pattern;
+
+    private final LongFunction<String> formatter;
+
+    private volatile Entry last = new Entry(Long.MIN_VALUE, null, null);
+
+    /**
+     * @param formatter 秒级时间戳对应的毫秒值到文本的转换
+     */
+    public SecondTextCache(LongFunction<String> formatter) {
+        this(null, Objects.requireNonNull(formatter, "formatter"));
+    }
+
+    private SecondTextCache(String pattern, LongFunction<String> formatter) {
+        this.pattern = pattern;
+        this.formatter = formatter;
+    }
+
+    /**
+     * 按格式创建，时区跟随每次调用时的默认时区，默认时区变化后重新生成
+     *
+     * @param pattern
+     * @return
+     */
+    public static SecondTextCache ofPattern(String pattern) {
+        return new SecondTextCache(Objects.requireNonNull(pattern, "pattern"), null);
+    }
+
+    /**
+     * 格式化指定时间
+     *
+     * @param millis
+     * @return
+     */
+    public String format(long millis) {
+        long second = Math.floorDiv(millis, 1000L);
+        TimeZone zone = Objects.isNull(pattern) ? null : TimeZone.getDefault();
+        String zoneId = Objects.isNull(zone) ? null : zone.getID();
+        Entry entry = last;
+        if (entry.second != second || !Objects.equals(entry.zoneId, zoneId)) {
+            String text = Objects.isNull(zone) ? formatter.apply(second * 1000L)
+                    : FastDateFormat.getInstance(pattern, zone).format(second * 1000L);
+            entry = new Entry(second, zoneId, text);
+            last = entry;
+        }
+        return entry.text;
+    }
+
+    /**
+     * 格式化时钟当前时间
+     *
+     * @param clock
+     * @return
+     */
+    public String format(MillisClock clock) {
+        return format(clock.currentTimeMillis());
+    }
+
+    private static final class Entry {
+
+        private final long second;
+
+        private final String zoneId;
+
+        private final String text;
+
+        private Entry(long second, String zoneId, String text) {
+            this.second = second;
+            this.zoneId = zoneId;
+            this.text = text;
+        }
+    }
+}
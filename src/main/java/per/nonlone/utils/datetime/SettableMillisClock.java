@@ -0,0 +1,39 @@
+package per.nonlone.utils.datetime;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 手动设置的时钟，用于测试
+ */
+public final class SettableMillisClock implements MillisClock {
+
+    private final AtomicLong now;
+
+    public SettableMillisClock(long millis) {
+        this.now = new AtomicLong(millis);
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return now.get();
+    }
+
+    /**
+     * 设置当前时间
+     *
+     * @param millis
+     */
+    public void setTimeMillis(long millis) {
+        now.set(millis);
+    }
+
+    /**
+     * 前进指定毫秒，负数为回拨
+     *
+     * @param millis
+     * @return 前进后的时间
+     */
+    public long advance(long millis) {
+        return now.addAndGet(millis);
+    }
+}
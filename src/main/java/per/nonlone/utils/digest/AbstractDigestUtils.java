@@ -1,11 +1,12 @@
 package per.nonlone.utils.digest;
 
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.Validate;
+import per.nonlone.utils.encode.HexCodec;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.security.GeneralSecurityException;
 import java.security.MessageDigest;
 import java.security.SecureRandom;
@@ -16,13 +17,17 @@ public abstract class AbstractDigestUtils {
 
     protected static final String MD5 = "MD5";
 
+    protected static final String SHA256 = "SHA-256";
+
+    protected static final String SHA512 = "SHA-512";
+
     private static SecureRandom random = new SecureRandom();
 
     /**
-     * 对字符串进行散列, 支持md5与sha1算法.
+     * 对字符串进行散列, 支持md5与sha算法.
      */
     protected static byte[] digest(byte[] input, String algorithm, byte[] salt, int iterations) throws GeneralSecurityException {
-        MessageDigest digest = MessageDigest.getInstance(algorithm);
+        MessageDigest digest = DigestEngine.messageDigest(algorithm);
         if (salt != null) {
             digest.update(salt);
         }
@@ -35,29 +40,38 @@ public abstract class AbstractDigestUtils {
         return result;
     }
 
+    /**
+     * 对输入流分段散列，不缓存整个输入.
+     */
     protected static byte[] digest(InputStream input, String algorithm) throws IOException, GeneralSecurityException {
-        MessageDigest messageDigest = MessageDigest.getInstance(algorithm);
-        ByteArrayOutputStream baso = new ByteArrayOutputStream();
-        IOUtils.copy(input, baso);
-        return messageDigest.digest(baso.toByteArray());
+        return DigestEngine.digest(input, algorithm);
+    }
+
+    /**
+     * 对文件按区域内存映射散列.
+     */
+    protected static byte[] digest(Path path, String algorithm) throws IOException, GeneralSecurityException {
+        return DigestEngine.digest(path, algorithm);
+    }
+
+    /**
+     * 对文件分块并行散列，格式见 {@link TreeHash}.
+     */
+    protected static byte[] treeDigest(Path path, String algorithm) throws IOException, GeneralSecurityException {
+        return TreeHash.digest(path, algorithm);
+    }
+
+    /**
+     * 对ByteBuffer剩余内容散列，支持直接缓冲.
+     */
+    protected static byte[] digest(ByteBuffer input, String algorithm) throws GeneralSecurityException {
+        return DigestEngine.digest(input, algorithm);
     }
 
 
     // 二进制转十六进制
     protected static String bytesToHex(byte[] bytes) {
-        StringBuffer hexStr = new StringBuffer();
-        int num;
-        for (int i = 0; i < bytes.length; i++) {
-            num = bytes[i];
-            if (num < 0) {
-                num += 256;
-            }
-            if (num < 16) {
-                hexStr.append("0");
-            }
-            hexStr.append(Integer.toHexString(num));
-        }
-        return hexStr.toString().toUpperCase();
+        return HexCodec.encodeUpper(bytes);
     }
 
     /**
@@ -0,0 +1,164 @@
+package per.nonlone.utils.digest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 流式摘要
+ * <p>
+ * MessageDigest 和读缓冲按线程复用，输入流按缓冲分段更新，
+ * 文件按区域内存映射后直接更新，不把整个输入读入堆内存
+ * </p>
+ */
+public abstract class DigestEngine {
+
+    /**
+     * 输入流读缓冲大小
+     */
+    public static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * 文件单次映射区域大小
+     */
+    public static final long MAP_REGION_SIZE = 64L * 1024 * 1024;
+
+    private static final ThreadLocal<Map<String, MessageDigest>> DIGESTS = ThreadLocal.withInitial(HashMap::new);
+
+    private static final ThreadLocal<byte[]> BUFFERS = ThreadLocal.withInitial(() -> new byte[BUFFER_SIZE]);
+
+    /**
+     * 当前线程已重置的 MessageDigest，不得跨线程传递
+     *
+     * @param algorithm
+     * @return
+     * @throws NoSuchAlgorithmException
+     */
+    public static MessageDigest messageDigest(String algorithm) throws NoSuchAlgorithmException {
+        Map<String, MessageDigest> digestMap = DIGESTS.get();
+        MessageDigest messageDigest = digestMap.get(algorithm);
+        if (Objects.isNull(messageDigest)) {
+            messageDigest = MessageDigest.getInstance(algorithm);
+            digestMap.put(algorithm, messageDigest);
+        } else {
+            messageDigest.reset();
+        }
+        return messageDigest;
+    }
+
+    /**
+     * 字节数组摘要
+     *
+     * @param input
+     * @param algorithm
+     * @return
+     * @throws NoSuchAlgorithmException
+     */
+    public static byte[] digest(byte[] input, String algorithm) throws NoSuchAlgorithmException {
+        return messageDigest(algorithm).digest(input);
+    }
+
+    /**
+     * 输入流摘要，不关闭输入流
+     *
+     * @param input
+     * @param algorithm
+     * @return
+     * @throws IOException
+     * @throws NoSuchAlgorithmException
+     */
+    public static byte[] digest(InputStream input, String algorithm) throws IOException, NoSuchAlgorithmException {
+        MessageDigest messageDigest = messageDigest(algorithm);
+        update(messageDigest, input);
+        return messageDigest.digest();
+    }
+
+    /**
+     * ByteBuffer 剩余内容摘要，支持直接缓冲，处理后 position 移到 limit
+     *
+     * @param byteBuffer
+     * @param algorithm
+     * @return
+     * @throws NoSuchAlgorithmException
+     */
+    public static byte[] digest(ByteBuffer byteBuffer, String algorithm) throws NoSuchAlgorithmException {
+        MessageDigest messageDigest = messageDigest(algorithm);
+        messageDigest.update(byteBuffer);
+        return messageDigest.digest();
+    }
+
+    /**
+     * 文件摘要
+     *
+     * @param path
+     * @param algorithm
+     * @return
+     * @throws IOException
+     * @throws NoSuchAlgorithmException
+     */
+    public static byte[] digest(Path path, String algorithm) throws IOException, NoSuchAlgorithmException {
+        try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return digest(fileChannel, 0, fileChannel.size(), algorithm);
+        }
+    }
+
+    /**
+     * 文件区间摘要，不改变通道位置
+     *
+     * @param fileChannel
+     * @param position
+     * @param length
+     * @param algorithm
+     * @return
+     * @throws IOException
+     * @throws NoSuchAlgorithmException
+     */
+    public static byte[] digest(FileChannel fileChannel, long position, long length, String algorithm) throws IOException, NoSuchAlgorithmException {
+        MessageDigest messageDigest = messageDigest(algorithm);
+        update(messageDigest, fileChannel, position, length);
+        return messageDigest.digest();
+    }
+
+    /**
+     * 以输入流更新摘要
+     *
+     * @param messageDigest
+     * @param input
+     * @throws IOException
+     */
+    public static void update(MessageDigest messageDigest, InputStream input) throws IOException {
+        byte[] buffer = BUFFERS.get();
+        int read;
+        while ((read = input.read(buffer)) >= 0) {
+            messageDigest.update(buffer, 0, read);
+        }
+    }
+
+    /**
+     * 以文件区间更新摘要，按 {@link #MAP_REGION_SIZE} 分区域映射
+     *
+     * @param messageDigest
+     * @param fileChannel
+     * @param position
+     * @param length
+     * @throws IOException
+     */
+    public static void update(MessageDigest messageDigest, FileChannel fileChannel, long position, long length) throws IOException {
+        long end = position + length;
+        while (position < end) {
+            long regionSize = Math.min(MAP_REGION_SIZE, end - position);
+            MappedByteBuffer mappedByteBuffer = fileChannel.map(FileChannel.MapMode.READ_ONLY, position, regionSize);
+            messageDigest.update(mappedByteBuffer);
+            position += regionSize;
+        }
+    }
+}
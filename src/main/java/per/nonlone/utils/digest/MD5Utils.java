@@ -4,6 +4,8 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.security.GeneralSecurityException;
 
 /**
@@ -19,6 +21,27 @@ public abstract class MD5Utils extends AbstractDigestUtils {
         return digest(input, MD5);
     }
 
+    /**
+     * 对文件进行md5散列.
+     */
+    public static byte[] md5(Path path) throws IOException, GeneralSecurityException {
+        return digest(path, MD5);
+    }
+
+    /**
+     * 对文件进行分块并行md5树形散列，结果与md5(Path)不同.
+     */
+    public static byte[] md5Tree(Path path) throws IOException, GeneralSecurityException {
+        return treeDigest(path, MD5);
+    }
+
+    /**
+     * 对ByteBuffer剩余内容进行md5散列.
+     */
+    public static byte[] md5(ByteBuffer input) throws GeneralSecurityException {
+        return digest(input, MD5);
+    }
+
     /**
      * 对输入字符串进行sha1散列.
      */
@@ -4,6 +4,8 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.security.GeneralSecurityException;
 
 @Slf4j
@@ -16,6 +18,20 @@ public abstract  class SHAUtils extends AbstractDigestUtils {
         return digest(input, SHA1);
     }
 
+    /**
+     * 对文件进行sha1散列.
+     */
+    public static byte[] sha1(Path path) throws IOException, GeneralSecurityException {
+        return digest(path, SHA1);
+    }
+
+    /**
+     * 对ByteBuffer剩余内容进行sha1散列.
+     */
+    public static byte[] sha1(ByteBuffer input) throws GeneralSecurityException {
+        return digest(input, SHA1);
+    }
+
     /**
      * 对输入字符串进行sha1散列.
      */
@@ -31,4 +47,77 @@ public abstract  class SHAUtils extends AbstractDigestUtils {
         return digest(input, SHA1, salt, iterations);
     }
 
+    /**
+     * 对输入流进行sha256散列.
+     */
+    public static byte[] sha256(InputStream input) throws IOException, GeneralSecurityException {
+        return digest(input, SHA256);
+    }
+
+    /**
+     * 对文件进行sha256散列.
+     */
+    public static byte[] sha256(Path path) throws IOException, GeneralSecurityException {
+        return digest(path, SHA256);
+    }
+
+    /**
+     * 对文件进行分块并行sha256树形散列，结果与sha256(Path)不同.
+     */
+    public static byte[] sha256Tree(Path path) throws IOException, GeneralSecurityException {
+        return treeDigest(path, SHA256);
+    }
+
+    /**
+     * 对ByteBuffer剩余内容进行sha256散列.
+     */
+    public static byte[] sha256(ByteBuffer input) throws GeneralSecurityException {
+        return digest(input, SHA256);
+    }
+
+    public static byte[] sha256(byte[] input) throws GeneralSecurityException {
+        return digest(input, SHA256, null, 1);
+    }
+
+    public static byte[] sha256(byte[] input, byte[] salt) throws GeneralSecurityException {
+        return digest(input, SHA256, salt, 1);
+    }
+
+    public static byte[] sha256(byte[] input, byte[] salt, int iterations) throws GeneralSecurityException {
+        return digest(input, SHA256, salt, iterations);
+    }
+
+    /**
+     * 对输入流进行sha512散列.
+     */
+    public static byte[] sha512(InputStream input) throws IOException, GeneralSecurityException {
+        return digest(input, SHA512);
+    }
+
+    /**
+     * 对文件进行sha512散列.
+     */
+    public static byte[] sha512(Path path) throws IOException, GeneralSecurityException {
+        return digest(path, SHA512);
+    }
+
+    /**
+     * 对ByteBuffer剩余内容进行sha512散列.
+     */
+    public static byte[] sha512(ByteBuffer input) throws GeneralSecurityException {
+        return digest(input, SHA512);
+    }
+
+    public static byte[] sha512(byte[] input) throws GeneralSecurityException {
+        return digest(input, SHA512, null, 1);
+    }
+
+    public static byte[] sha512(byte[] input, byte[] salt) throws GeneralSecurityException {
+        return digest(input, SHA512, salt, 1);
+    }
+
+    public static byte[] sha512(byte[] input, byte[] salt, int iterations) throws GeneralSecurityException {
+        return digest(input, SHA512, salt, iterations);
+    }
+
 }
@@ -0,0 +1,284 @@
+package per.nonlone.utils.digest;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 分块树形摘要
+ * <p>
+ * 格式：内容按 chunkSize 切分为 n 块（空内容 n=0，末块可不足），H 为指定摘要算法，
+ * leaf[i] = H(0x00 || chunk[i])，
+ * root = H(0x01 || chunkSize(4字节大端) || length(8字节大端) || leaf[0] || ... || leaf[n-1])。
+ * 各块摘要互不依赖，可从内存映射区域并行计算；
+ * 结果 {@link State} 保留各块摘要，文件追加内容后只需重算末尾不完整块及新增块
+ * </p>
+ */
+public abstract class TreeHash {
+
+    /**
+     * 默认块大小
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 4 * 1024 * 1024;
+
+    private static final byte LEAF_PREFIX = 0x00;
+
+    private static final byte ROOT_PREFIX = 0x01;
+
+    /**
+     * 文件树形摘要，默认块大小，在公共线程池并行计算
+     *
+     * @param path
+     * @param algorithm
+     * @return 根摘要
+     * @throws IOException
+     * @throws GeneralSecurityException
+     */
+    public static byte[] digest(Path path, String algorithm) throws IOException, GeneralSecurityException {
+        return digest(path, algorithm, DEFAULT_CHUNK_SIZE, ForkJoinPool.commonPool()).root;
+    }
+
+    /**
+     * 文件树形摘要
+     *
+     * @param path
+     * @param algorithm
+     * @param chunkSize
+     * @param executor  为空时在当前线程串行计算
+     * @return 可用于续算的状态
+     * @throws IOException
+     * @throws GeneralSecurityException
+     */
+    public static State digest(Path path, String algorithm, int chunkSize, Executor executor) throws IOException, GeneralSecurityException {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be greater than 0");
+        }
+        return resume(new State(algorithm, chunkSize, 0, new byte[0][]), path, executor);
+    }
+
+    /**
+     * 在已有状态上续算追加后的文件，调用方需保证已计算部分未被修改
+     *
+     * @param previous
+     * @param path
+     * @param executor 为空时在当前线程串行计算
+     * @return 新状态
+     * @throws IOException              文件比已计算部分短
+     * @throws GeneralSecurityException
+     */
+    public static State resume(State previous, Path path, Executor executor) throws IOException, GeneralSecurityException {
+        try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long length = fileChannel.size();
+            if (length < previous.getLength()) {
+                throw new IOException(String.format("file<%s> length<%d> is shorter than digested length<%d>", path, length, previous.getLength()));
+            }
+            String algorithm = previous.getAlgorithm();
+            int chunkSize = previous.getChunkSize();
+            int chunkCount = chunkCount(length, chunkSize);
+            // 只保留完整块，末尾不完整块需要重算
+            int kept = (int) (previous.getLength() / chunkSize);
+            byte[][] leaves = Arrays.copyOf(previous.leaves, chunkCount);
+            runLeaves(kept, chunkCount, executor, index -> {
+                long position = (long) index * chunkSize;
+                MessageDigest messageDigest = DigestEngine.messageDigest(algorithm);
+                messageDigest.update(LEAF_PREFIX);
+                DigestEngine.update(messageDigest, fileChannel, position, Math.min(chunkSize, length - position));
+                leaves[index] = messageDigest.digest();
+            });
+            return new State(algorithm, chunkSize, length, leaves);
+        }
+    }
+
+    /**
+     * 内存数据树形摘要，串行计算，结果与文件摘要一致
+     *
+     * @param input
+     * @param algorithm
+     * @param chunkSize
+     * @return 根摘要
+     * @throws GeneralSecurityException
+     */
+    public static byte[] digest(byte[] input, String algorithm, int chunkSize) throws GeneralSecurityException {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be greater than 0");
+        }
+        byte[][] leaves = new byte[chunkCount(input.length, chunkSize)][];
+        for (int i = 0; i < leaves.length; i++) {
+            MessageDigest messageDigest = DigestEngine.messageDigest(algorithm);
+            messageDigest.update(LEAF_PREFIX);
+            int offset = i * chunkSize;
+            messageDigest.update(input, offset, Math.min(chunkSize, input.length - offset));
+            leaves[i] = messageDigest.digest();
+        }
+        return new State(algorithm, chunkSize, input.length, leaves).root;
+    }
+
+    private static int chunkCount(long length, int chunkSize) {
+        long count = (length + chunkSize - 1) / chunkSize;
+        if (count > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(String.format("too many chunks length<%d> chunkSize<%d>", length, chunkSize));
+        }
+        return (int) count;
+    }
+
+    private static void runLeaves(int from, int to, Executor executor, LeafTask leafTask) throws IOException, GeneralSecurityException {
+        if (Objects.isNull(executor) || to - from <= 1) {
+            for (int i = from; i < to; i++) {
+                leafTask.run(i);
+            }
+            return;
+        }
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[to - from];
+        for (int i = from; i < to; i++) {
+            int index = i;
+            futures[i - from] = CompletableFuture.runAsync(() -> {
+                try {
+                    leafTask.run(index);
+                } catch (IOException | GeneralSecurityException e) {
+                    throw new CompletionException(e);
+                }
+            }, executor);
+        }
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            if (e.getCause() instanceof GeneralSecurityException) {
+                throw (GeneralSecurityException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    @FunctionalInterface
+    private interface LeafTask {
+
+        void run(int index) throws IOException, GeneralSecurityException;
+    }
+
+    /**
+     * 摘要状态，可序列化保存后用于续算
+     */
+    @Getter
+    public static class State {
+
+        private final String algorithm;
+
+        private final int chunkSize;
+
+        /**
+         * 已计算的内容长度
+         */
+        private final long length;
+
+        /**
+         * 根摘要
+         */
+        @Getter(AccessLevel.NONE)
+        private final byte[] root;
+
+        @Getter(AccessLevel.NONE)
+        private final byte[][] leaves;
+
+        private State(String algorithm, int chunkSize, long length, byte[][] leaves) throws GeneralSecurityException {
+            this.algorithm = algorithm;
+            this.chunkSize = chunkSize;
+            this.length = length;
+            this.leaves = leaves;
+            MessageDigest messageDigest = DigestEngine.messageDigest(algorithm);
+            messageDigest.update(ROOT_PREFIX);
+            messageDigest.update(ByteBuffer.allocate(12).putInt(chunkSize).putLong(length).array());
+            for (byte[] leaf : leaves) {
+                messageDigest.update(leaf);
+            }
+            this.root = messageDigest.digest();
+        }
+
+        /**
+         * 块数量
+         *
+         * @return
+         */
+        public int getChunkCount() {
+            return leaves.length;
+        }
+
+        /**
+         * 根摘要
+         *
+         * @return
+         */
+        public byte[] getRoot() {
+            return root.clone();
+        }
+
+        /**
+         * 第 index 块的摘要
+         *
+         * @param index
+         * @return
+         */
+        public byte[] getLeaf(int index) {
+            return leaves[index].clone();
+        }
+
+        /**
+         * 序列化：算法名长度(2) + 算法名 + 块大小(4) + 长度(8) + 块数(4) + 各块摘要
+         *
+         * @return
+         */
+        public byte[] toBytes() {
+            byte[] algorithmBytes = algorithm.getBytes(StandardCharsets.UTF_8);
+            int leafLength = leaves.length == 0 ? 0 : leaves[0].length;
+            ByteBuffer byteBuffer = ByteBuffer.allocate(2 + algorithmBytes.length + 16 + leaves.length * leafLength);
+            byteBuffer.putShort((short) algorithmBytes.length).put(algorithmBytes)
+                    .putInt(chunkSize).putLong(length).putInt(leaves.length);
+            for (byte[] leaf : leaves) {
+                byteBuffer.put(leaf);
+            }
+            return byteBuffer.array();
+        }
+
+        /**
+         * 反序列化
+         *
+         * @param bytes
+         * @return
+         * @throws GeneralSecurityException
+         */
+        public static State fromBytes(byte[] bytes) throws GeneralSecurityException {
+            ByteBuffer byteBuffer = ByteBuffer.wrap(bytes);
+            byte[] algorithmBytes = new byte[byteBuffer.getShort()];
+            byteBuffer.get(algorithmBytes);
+            String algorithm = new String(algorithmBytes, StandardCharsets.UTF_8);
+            int chunkSize = byteBuffer.getInt();
+            long length = byteBuffer.getLong();
+            int chunkCount = byteBuffer.getInt();
+            if (chunkSize <= 0 || length < 0 || chunkCount != chunkCount(length, chunkSize)) {
+                throw new IllegalArgumentException("illegal tree hash state");
+            }
+            int leafLength = DigestEngine.messageDigest(algorithm).getDigestLength();
+            byte[][] leaves = new byte[chunkCount][leafLength];
+            for (byte[] leaf : leaves) {
+                byteBuffer.get(leaf);
+            }
+            return new State(algorithm, chunkSize, length, leaves);
+        }
+    }
+}
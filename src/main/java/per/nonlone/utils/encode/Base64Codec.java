@@ -0,0 +1,141 @@
+package per.nonlone.utils.encode;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 查表 BASE64 编解码，ByteBuffer 到 ByteBuffer
+ * <p>
+ * 使用标准字母表（RFC 4648），编码输出带 '=' 补齐，解码与 {@link java.util.Base64#getDecoder()} 一致，
+ * 补齐字符可省略，不接受换行等其他字符。
+ * 每次调用处理尽可能多的完整分组，剩余不足一组的输入留在源缓冲中，
+ * 调用方读取更多数据后可继续，适合分段处理大文件
+ * </p>
+ */
+public abstract class Base64Codec {
+
+    private static final byte[] ENCODE_TABLE = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/"
+            .getBytes(StandardCharsets.US_ASCII);
+
+    private static final byte PAD = '=';
+
+    private static final int PAD_VALUE = -2;
+
+    /**
+     * 字符对应的数值，非法字符为 -1，补齐字符为 -2
+     */
+    private static final int[] DECODE_TABLE = new int[256];
+
+    static {
+        Arrays.fill(DECODE_TABLE, -1);
+        for (int i = 0; i < ENCODE_TABLE.length; i++) {
+            DECODE_TABLE[ENCODE_TABLE[i]] = i;
+        }
+        DECODE_TABLE[PAD] = PAD_VALUE;
+    }
+
+    /**
+     * 编码后长度
+     *
+     * @param length 原始字节数
+     * @return
+     */
+    public static long encodedLength(long length) {
+        return (length + 2) / 3 * 4;
+    }
+
+    /**
+     * 编码 src 剩余内容写入 dst
+     *
+     * @param src
+     * @param dst
+     * @param endOfInput 为 true 时末尾不足 3 字节的部分补齐输出
+     */
+    public static void encode(ByteBuffer src, ByteBuffer dst, boolean endOfInput) {
+        while (src.remaining() >= 3 && dst.remaining() >= 4) {
+            int bits = (src.get() & 0xFF) << 16 | (src.get() & 0xFF) << 8 | (src.get() & 0xFF);
+            dst.put(ENCODE_TABLE[bits >>> 18])
+                    .put(ENCODE_TABLE[(bits >>> 12) & 0x3F])
+                    .put(ENCODE_TABLE[(bits >>> 6) & 0x3F])
+                    .put(ENCODE_TABLE[bits & 0x3F]);
+        }
+        int remaining = src.remaining();
+        if (endOfInput && remaining > 0 && remaining < 3 && dst.remaining() >= 4) {
+            int bits = (src.get() & 0xFF) << 16 | (remaining == 2 ? (src.get() & 0xFF) << 8 : 0);
+            dst.put(ENCODE_TABLE[bits >>> 18])
+                    .put(ENCODE_TABLE[(bits >>> 12) & 0x3F])
+                    .put(remaining == 2 ? ENCODE_TABLE[(bits >>> 6) & 0x3F] : PAD)
+                    .put(PAD);
+        }
+    }
+
+    /**
+     * 解码 src 剩余内容写入 dst，dst 每组需至少 3 字节空间
+     *
+     * @param src
+     * @param dst
+     * @param endOfInput 为 true 时末尾 2、3 个字符按省略补齐处理
+     * @return 遇到补齐字符返回 true，此后不应再有输入
+     * @throws IllegalArgumentException 含非法字符或补齐位置错误
+     */
+    public static boolean decode(ByteBuffer src, ByteBuffer dst, boolean endOfInput) {
+        while (src.remaining() >= 4 && dst.remaining() >= 3) {
+            int position = src.position();
+            int c0 = value(src.get(position));
+            int c1 = value(src.get(position + 1));
+            int c2 = value(src.get(position + 2));
+            int c3 = value(src.get(position + 3));
+            if (c0 < 0 || c1 < 0) {
+                throw illegal(position);
+            }
+            if (c2 >= 0 && c3 >= 0) {
+                int bits = c0 << 18 | c1 << 12 | c2 << 6 | c3;
+                dst.put((byte) (bits >>> 16)).put((byte) (bits >>> 8)).put((byte) bits);
+                src.position(position + 4);
+                continue;
+            }
+            if (c2 == PAD_VALUE && c3 == PAD_VALUE) {
+                dst.put((byte) ((c0 << 18 | c1 << 12) >>> 16));
+            } else if (c2 >= 0 && c3 == PAD_VALUE) {
+                int bits = c0 << 18 | c1 << 12 | c2 << 6;
+                dst.put((byte) (bits >>> 16)).put((byte) (bits >>> 8));
+            } else {
+                throw illegal(position);
+            }
+            src.position(position + 4);
+            if (src.hasRemaining()) {
+                throw illegal(src.position());
+            }
+            return true;
+        }
+        int remaining = src.remaining();
+        if (endOfInput && remaining > 0 && remaining < 4 && dst.remaining() >= 3) {
+            int position = src.position();
+            if (remaining == 1) {
+                throw illegal(position);
+            }
+            int c0 = value(src.get(position));
+            int c1 = value(src.get(position + 1));
+            int c2 = remaining == 3 ? value(src.get(position + 2)) : 0;
+            if (c0 < 0 || c1 < 0 || c2 < 0) {
+                throw illegal(position);
+            }
+            int bits = c0 << 18 | c1 << 12 | c2 << 6;
+            dst.put((byte) (bits >>> 16));
+            if (remaining == 3) {
+                dst.put((byte) (bits >>> 8));
+            }
+            src.position(position + remaining);
+        }
+        return false;
+    }
+
+    private static int value(byte b) {
+        return DECODE_TABLE[b & 0xFF];
+    }
+
+    private static IllegalArgumentException illegal(int position) {
+        return new IllegalArgumentException(String.format("illegal base64 data at position<%d>", position));
+    }
+}
@@ -2,8 +2,21 @@ package per.nonlone.utils.encode;
 
 
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.output.CloseShieldOutputStream;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.Base64;
 
 /**
@@ -12,9 +25,22 @@ import java.util.Base64;
 public abstract class Base64Utils {
 
     /**
-     * 文件读取缓冲区大小
+     * 流式处理时原始数据缓冲大小，为 3 的倍数
      */
-    private static final int CACHE_SIZE = 1024;
+    public static final int BUFFER_SIZE = 48 * 1024;
+
+    /**
+     * 编码数据缓冲大小，与原始数据缓冲对应
+     */
+    private static final int ENCODED_BUFFER_SIZE = BUFFER_SIZE / 3 * 4;
+
+    private static final ThreadLocal<byte[]> ARRAY_BUFFERS = ThreadLocal.withInitial(() -> new byte[ENCODED_BUFFER_SIZE]);
+
+    /**
+     * 下标 0 为原始数据缓冲，1 为编码数据缓冲
+     */
+    private static final ThreadLocal<ByteBuffer[]> DIRECT_BUFFERS = ThreadLocal.withInitial(
+            () -> new ByteBuffer[]{ByteBuffer.allocateDirect(BUFFER_SIZE), ByteBuffer.allocateDirect(ENCODED_BUFFER_SIZE)});
 
     /**
      * <p>
@@ -26,7 +52,8 @@ public abstract class Base64Utils {
      * @throws Exception
      */
     public static byte[] decodeFromString(String source) {
-        return Base64.getDecoder().decode(source.getBytes());
+        // BASE64 只含 ASCII 字符，按 ISO-8859-1 转换，不依赖平台默认字符集
+        return Base64.getDecoder().decode(source);
     }
 
     /**
@@ -47,7 +74,7 @@ public abstract class Base64Utils {
      * 将文件编码为BASE64字符串
      * </p>
      * <p>
-     * 大文件慎用，可能会导致内存溢出
+     * 大文件慎用，可能会导致内存溢出，建议使用 {@link #encodeFile(Path, Path)}
      * </p>
      *
      * @param filePath 文件绝对路径
@@ -61,7 +88,7 @@ public abstract class Base64Utils {
 
     /**
      * <p>
-     * BASE64字符串转回文件
+     * BASE64字符串转回文件，父目录不存在时创建，解码失败时目标文件保持不变
      * </p>
      *
      * @param filePath 文件绝对路径
@@ -69,8 +96,212 @@ public abstract class Base64Utils {
      * @throws Exception
      */
     public static void decodeToFile(String filePath, String base64) throws Exception {
-        byte[] bytes = decodeFromString(base64);
-        FileUtils.writeByteArrayToFile(new File(filePath), bytes);
+        ByteBuffer[] buffers = DIRECT_BUFFERS.get();
+        ByteBuffer encoded = buffers[1];
+        ByteBuffer decoded = buffers[0];
+        encoded.clear();
+        writeThenMove(new File(filePath).toPath(), fileChannel -> {
+            // 分段转换，不生成完整的解码数组
+            boolean padded = false;
+            for (int i = 0, length = base64.length(); i < length; ) {
+                while (encoded.hasRemaining() && i < length) {
+                    char c = base64.charAt(i++);
+                    if (c >= 0x80) {
+                        throw new IllegalArgumentException(String.format("illegal base64 character<%s> at position<%d>", c, i - 1));
+                    }
+                    encoded.put((byte) c);
+                }
+                encoded.flip();
+                padded = decodeChunk(encoded, decoded, i == length, padded, fileChannel);
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * 输入流编码后写入输出流，不关闭两个流
+     * </p>
+     *
+     * @param inputStream  原始数据
+     * @param outputStream BASE64 数据
+     * @return 读取的原始字节数
+     * @throws IOException
+     */
+    public static long encode(InputStream inputStream, OutputStream outputStream) throws IOException {
+        // 关闭包装流以输出末尾补齐，但不关闭底层输出流
+        try (OutputStream encodingStream = Base64.getEncoder().wrap(new CloseShieldOutputStream(outputStream))) {
+            return copy(inputStream, encodingStream);
+        }
+    }
+
+    /**
+     * <p>
+     * 输入流解码后写入输出流，不关闭两个流
+     * </p>
+     *
+     * @param inputStream  BASE64 数据
+     * @param outputStream 原始数据
+     * @return 写出的原始字节数
+     * @throws IOException
+     */
+    public static long decode(InputStream inputStream, OutputStream outputStream) throws IOException {
+        return copy(Base64.getDecoder().wrap(inputStream), outputStream);
+    }
+
+    /**
+     * <p>
+     * 通道间编码，不关闭通道
+     * </p>
+     *
+     * @param readableByteChannel  原始数据
+     * @param writableByteChannel  BASE64 数据
+     * @throws IOException
+     */
+    public static void encode(ReadableByteChannel readableByteChannel, WritableByteChannel writableByteChannel) throws IOException {
+        ByteBuffer[] buffers = DIRECT_BUFFERS.get();
+        ByteBuffer source = buffers[0];
+        ByteBuffer encoded = buffers[1];
+        source.clear();
+        boolean endOfInput = false;
+        while (!endOfInput) {
+            endOfInput = readableByteChannel.read(source) < 0;
+            source.flip();
+            encoded.clear();
+            Base64Codec.encode(source, encoded, endOfInput);
+            encoded.flip();
+            writeFully(writableByteChannel, encoded);
+            source.compact();
+        }
+    }
+
+    /**
+     * <p>
+     * 通道间解码，不关闭通道
+     * </p>
+     *
+     * @param readableByteChannel  BASE64 数据
+     * @param writableByteChannel  原始数据
+     * @throws IOException
+     * @throws IllegalArgumentException 含非法字符
+     */
+    public static void decode(ReadableByteChannel readableByteChannel, WritableByteChannel writableByteChannel) throws IOException {
+        ByteBuffer[] buffers = DIRECT_BUFFERS.get();
+        ByteBuffer encoded = buffers[1];
+        ByteBuffer decoded = buffers[0];
+        encoded.clear();
+        boolean endOfInput = false;
+        boolean padded = false;
+        while (!endOfInput) {
+            endOfInput = readableByteChannel.read(encoded) < 0;
+            encoded.flip();
+            padded = decodeChunk(encoded, decoded, endOfInput, padded, writableByteChannel);
+        }
+    }
+
+    /**
+     * <p>
+     * 文件编码为 BASE64 文件，分段处理
+     * </p>
+     *
+     * @param source
+     * @param target 已存在时覆盖
+     * @throws IOException
+     */
+    public static void encodeFile(Path source, Path target) throws IOException {
+        try (FileChannel sourceChannel = FileChannel.open(source, StandardOpenOption.READ);
+             FileChannel targetChannel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            encode(sourceChannel, targetChannel);
+        }
+    }
+
+    /**
+     * <p>
+     * BASE64 文件解码为文件，分段处理
+     * </p>
+     *
+     * @param source
+     * @param target 已存在时覆盖，父目录不存在时创建，解码失败时保持不变
+     * @throws IOException
+     * @throws IllegalArgumentException 含非法字符
+     */
+    public static void decodeFile(Path source, Path target) throws IOException {
+        try (FileChannel sourceChannel = FileChannel.open(source, StandardOpenOption.READ)) {
+            writeThenMove(target, targetChannel -> decode(sourceChannel, targetChannel));
+        }
+    }
+
+    /**
+     * 解码 encoded 中的完整分组并写出，未处理部分移到缓冲开头
+     *
+     * @return 是否已遇到补齐字符
+     */
+    private static boolean decodeChunk(ByteBuffer encoded, ByteBuffer decoded, boolean endOfInput, boolean padded,
+                                       WritableByteChannel writableByteChannel) throws IOException {
+        // 补齐字符之后不应再有数据
+        if (padded && encoded.hasRemaining()) {
+            throw new IllegalArgumentException("illegal base64 data after padding");
+        }
+        decoded.clear();
+        padded |= Base64Codec.decode(encoded, decoded, endOfInput);
+        decoded.flip();
+        writeFully(writableByteChannel, decoded);
+        if (encoded.hasRemaining() && endOfInput) {
+            throw new IllegalArgumentException("illegal base64 data ending");
+        }
+        encoded.compact();
+        return padded;
+    }
+
+    /**
+     * 写入目标同目录下的临时文件，成功后替换目标文件，失败时删除临时文件
+     *
+     * @param target
+     * @param targetWriter
+     * @throws IOException
+     */
+    private static void writeThenMove(Path target, TargetWriter targetWriter) throws IOException {
+        FileUtils.forceMkdirParent(target.toFile());
+        Path directory = target.toAbsolutePath().getParent();
+        Path temp = Files.createTempFile(directory, target.getFileName().toString(), ".tmp");
+        boolean moved = false;
+        try {
+            try (FileChannel targetChannel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                targetWriter.write(targetChannel);
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            moved = true;
+        } finally {
+            if (!moved) {
+                Files.deleteIfExists(temp);
+            }
+        }
+    }
+
+    private static long copy(InputStream inputStream, OutputStream outputStream) throws IOException {
+        byte[] buffer = ARRAY_BUFFERS.get();
+        long total = 0;
+        int read;
+        while ((read = inputStream.read(buffer)) >= 0) {
+            outputStream.write(buffer, 0, read);
+            total += read;
+        }
+        return total;
+    }
+
+    private static void writeFully(WritableByteChannel writableByteChannel, ByteBuffer byteBuffer) throws IOException {
+        while (byteBuffer.hasRemaining()) {
+            writableByteChannel.write(byteBuffer);
+        }
+    }
+
+    @FunctionalInterface
+    private interface TargetWriter {
+
+        void write(FileChannel targetChannel) throws IOException;
     }
 
 
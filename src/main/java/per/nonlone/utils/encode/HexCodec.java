@@ -0,0 +1,224 @@
+package per.nonlone.utils.encode;
+
+import java.util.Objects;
+
+/**
+ * 查表十六进制编解码
+ * <p>
+ * 每个字节按预先计算的两字符表直接写出，可写入调用方提供的 char[]/byte[]；
+ * 解码按字符表查找，非法输入返回 null 或 -1，不抛出异常
+ * </p>
+ */
+public abstract class HexCodec {
+
+    private static final char[] LOWER_DIGITS = "0123456789abcdef".toCharArray();
+
+    private static final char[] UPPER_DIGITS = "0123456789ABCDEF".toCharArray();
+
+    /**
+     * 下标 b*2、b*2+1 为字节 b 的两个字符
+     */
+    private static final char[] LOWER_TABLE = table(LOWER_DIGITS);
+
+    private static final char[] UPPER_TABLE = table(UPPER_DIGITS);
+
+    /**
+     * 字符对应的数值，非十六进制字符为 -1
+     */
+    private static final byte[] DIGIT_VALUES = new byte[128];
+
+    static {
+        for (int i = 0; i < DIGIT_VALUES.length; i++) {
+            DIGIT_VALUES[i] = (byte) Character.digit((char) i, 16);
+        }
+    }
+
+    /**
+     * 小写编码
+     *
+     * @param input
+     * @return
+     */
+    public static String encodeLower(byte[] input) {
+        return encode(input, false);
+    }
+
+    /**
+     * 大写编码
+     *
+     * @param input
+     * @return
+     */
+    public static String encodeUpper(byte[] input) {
+        return encode(input, true);
+    }
+
+    /**
+     * 编码
+     *
+     * @param input
+     * @param upperCase
+     * @return
+     */
+    public static String encode(byte[] input, boolean upperCase) {
+        char[] chars = new char[input.length << 1];
+        encode(input, 0, input.length, chars, 0, upperCase);
+        return new String(chars);
+    }
+
+    /**
+     * 编码到调用方提供的字符数组
+     *
+     * @param input
+     * @param offset
+     * @param length
+     * @param output    剩余空间需不少于 length*2
+     * @param outOffset
+     * @param upperCase
+     * @return 写入的字符数
+     */
+    public static int encode(byte[] input, int offset, int length, char[] output, int outOffset, boolean upperCase) {
+        char[] table = upperCase ? UPPER_TABLE : LOWER_TABLE;
+        int j = outOffset;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            int index = (input[i] & 0xFF) << 1;
+            output[j++] = table[index];
+            output[j++] = table[index + 1];
+        }
+        return length << 1;
+    }
+
+    /**
+     * 编码为 ASCII 字节，写入调用方提供的字节数组
+     *
+     * @param input
+     * @param offset
+     * @param length
+     * @param output    剩余空间需不少于 length*2
+     * @param outOffset
+     * @param upperCase
+     * @return 写入的字节数
+     */
+    public static int encode(byte[] input, int offset, int length, byte[] output, int outOffset, boolean upperCase) {
+        char[] table = upperCase ? UPPER_TABLE : LOWER_TABLE;
+        int j = outOffset;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            int index = (input[i] & 0xFF) << 1;
+            output[j++] = (byte) table[index];
+            output[j++] = (byte) table[index + 1];
+        }
+        return length << 1;
+    }
+
+    /**
+     * 批量编码，依次写入同一个字符数组
+     *
+     * @param inputs
+     * @param output    剩余空间需不少于各输入长度之和*2
+     * @param outOffset
+     * @param upperCase
+     * @return 写入的字符数
+     */
+    public static int encodeAll(byte[][] inputs, char[] output, int outOffset, boolean upperCase) {
+        int j = outOffset;
+        for (byte[] input : inputs) {
+            j += encode(input, 0, input.length, output, j, upperCase);
+        }
+        return j - outOffset;
+    }
+
+    /**
+     * 批量编码，共用一个字符缓冲后逐个生成字符串
+     *
+     * @param inputs
+     * @param upperCase
+     * @return 与输入一一对应
+     */
+    public static String[] encodeEach(byte[][] inputs, boolean upperCase) {
+        int total = 0;
+        for (byte[] input : inputs) {
+            total += input.length;
+        }
+        char[] chars = new char[total << 1];
+        encodeAll(inputs, chars, 0, upperCase);
+        String[] results = new String[inputs.length];
+        int offset = 0;
+        for (int i = 0; i < inputs.length; i++) {
+            int length = inputs[i].length << 1;
+            results[i] = new String(chars, offset, length);
+            offset += length;
+        }
+        return results;
+    }
+
+    /**
+     * 解码，大小写均可
+     *
+     * @param input
+     * @return 为空、长度为奇数或含非法字符返回 null
+     */
+    public static byte[] decode(CharSequence input) {
+        if (Objects.isNull(input) || (input.length() & 1) != 0) {
+            return null;
+        }
+        byte[] output = new byte[input.length() >> 1];
+        return decode(input, 0, input.length(), output, 0) < 0 ? null : output;
+    }
+
+    /**
+     * 解码区间到调用方提供的字节数组
+     *
+     * @param input
+     * @param start
+     * @param end
+     * @param output    剩余空间需不少于 (end-start)/2
+     * @param outOffset
+     * @return 写入的字节数，长度为奇数或含非法字符返回 -1，此时输出内容不确定
+     */
+    public static int decode(CharSequence input, int start, int end, byte[] output, int outOffset) {
+        if (((end - start) & 1) != 0) {
+            return -1;
+        }
+        int j = outOffset;
+        for (int i = start; i < end; i += 2) {
+            int high = digit(input.charAt(i));
+            int low = digit(input.charAt(i + 1));
+            if ((high | low) < 0) {
+                return -1;
+            }
+            output[j++] = (byte) ((high << 4) | low);
+        }
+        return j - outOffset;
+    }
+
+    /**
+     * 是否为合法十六进制串
+     *
+     * @param input
+     * @return
+     */
+    public static boolean isHex(CharSequence input) {
+        if (Objects.isNull(input) || (input.length() & 1) != 0) {
+            return false;
+        }
+        for (int i = 0; i < input.length(); i++) {
+            if (digit(input.charAt(i)) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int digit(char c) {
+        return c < DIGIT_VALUES.length ? DIGIT_VALUES[c] : -1;
+    }
+
+    private static char[] table(char[] digits) {
+        char[] table = new char[512];
+        for (int b = 0; b < 256; b++) {
+            table[b << 1] = digits[b >>> 4];
+            table[(b << 1) + 1] = digits[b & 0xF];
+        }
+        return table;
+    }
+}
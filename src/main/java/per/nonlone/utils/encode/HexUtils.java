@@ -1,8 +1,8 @@
 package per.nonlone.utils.encode;
 
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.codec.DecoderException;
-import org.apache.commons.codec.binary.Hex;
+
+import java.util.Objects;
 
 @Slf4j
 public abstract class HexUtils {
@@ -11,19 +11,18 @@ public abstract class HexUtils {
      * Hex编码.
      */
     public static String encode(byte[] input) {
-        return Hex.encodeHexString(input);
+        return HexCodec.encodeLower(input);
     }
 
     /**
      * Hex解码.
      */
     public static byte[] decode(String input) {
-        try {
-            return Hex.decodeHex(input.toCharArray());
-        } catch (DecoderException e) {
-            log.error("Decode Error data:{}", input, e);
+        byte[] output = HexCodec.decode(input);
+        if (Objects.isNull(output)) {
+            log.error("Decode Error data:{}", input);
         }
-        return null;
+        return output;
     }
 
 }
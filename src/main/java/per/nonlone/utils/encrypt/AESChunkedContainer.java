@@ -0,0 +1,453 @@
+package per.nonlone.utils.encrypt;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * 分块 AES-GCM 加密容器
+ * <p>
+ * 格式为 头部 + 若干块，每块为 块头(序号4 + 明文长度4) + 密文 + 16字节认证标签。
+ * 每块独立使用 随机前缀(8字节) + 块序号(4字节) 作为 nonce，以头部和块头为附加认证数据，
+ * 块的位置由序号直接计算。各块可在线程池中并行加解密，也可以只解密任意一块
+ * </p>
+ */
+public abstract class AESChunkedContainer {
+
+    /**
+     * 默认块大小
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1024 * 1024;
+
+    /**
+     * 头部长度：魔数4 + 版本1 + 块大小4 + 明文长度8 + nonce前缀8
+     */
+    public static final int HEADER_LENGTH = 25;
+
+    /**
+     * 块头长度：块序号4 + 明文长度4
+     */
+    public static final int CHUNK_HEADER_LENGTH = 8;
+
+    /**
+     * 每块认证标签长度
+     */
+    public static final int TAG_LENGTH = AESStreams.GCM_TAG_BITS / 8;
+
+    private static final int MAGIC = 0x41455343;
+
+    private static final byte VERSION = 1;
+
+    private static final int NONCE_PREFIX_LENGTH = 8;
+
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+    /**
+     * 加密
+     *
+     * @param content
+     * @param secretKeySpec
+     * @param chunkSize
+     * @param executor      为空时在当前线程串行处理
+     * @return 容器字节
+     * @throws GeneralSecurityException
+     */
+    public static byte[] encrypt(byte[] content, SecretKeySpec secretKeySpec, int chunkSize, Executor executor) throws GeneralSecurityException {
+        Header header = Header.create(chunkSize, content.length);
+        byte[] headerBytes = header.toBytes();
+        byte[] container = new byte[(int) header.getContainerLength()];
+        System.arraycopy(headerBytes, 0, container, 0, HEADER_LENGTH);
+        runInMemory(header.getChunkCount(), executor, index -> {
+            byte[] chunkHeader = header.chunkHeader(index);
+            int chunkOffset = (int) header.chunkOffset(index);
+            System.arraycopy(chunkHeader, 0, container, chunkOffset, CHUNK_HEADER_LENGTH);
+            Cipher cipher = initCipher(Cipher.ENCRYPT_MODE, secretKeySpec, header, headerBytes, chunkHeader, index);
+            int plainOffset = (int) ((long) index * chunkSize);
+            cipher.doFinal(content, plainOffset, header.plainChunkLength(index), container, chunkOffset + CHUNK_HEADER_LENGTH);
+        });
+        return container;
+    }
+
+    /**
+     * 解密
+     *
+     * @param container
+     * @param secretKeySpec
+     * @param executor      为空时在当前线程串行处理
+     * @return 明文
+     * @throws GeneralSecurityException 任一块认证失败时抛出 AEADBadTagException，块头不符时抛出 GeneralSecurityException
+     */
+    public static byte[] decrypt(byte[] container, SecretKeySpec secretKeySpec, Executor executor) throws GeneralSecurityException {
+        Header header = Header.parse(ByteBuffer.wrap(container, 0, Math.min(container.length, HEADER_LENGTH)));
+        if (header.getContainerLength() != container.length) {
+            throw new GeneralSecurityException("container length mismatch");
+        }
+        byte[] headerBytes = header.toBytes();
+        byte[] content = new byte[(int) header.getPlainLength()];
+        runInMemory(header.getChunkCount(), executor, index -> {
+            int chunkOffset = (int) header.chunkOffset(index);
+            byte[] chunkHeader = checkChunkHeader(header, index, container, chunkOffset);
+            Cipher cipher = initCipher(Cipher.DECRYPT_MODE, secretKeySpec, header, headerBytes, chunkHeader, index);
+            cipher.doFinal(container, chunkOffset + CHUNK_HEADER_LENGTH, header.plainChunkLength(index) + TAG_LENGTH,
+                    content, (int) ((long) index * header.getChunkSize()));
+        });
+        return content;
+    }
+
+    /**
+     * 加密文件，各块按位置并行读写，先写入同目录临时文件，成功后再替换目标文件
+     *
+     * @param source
+     * @param target        已存在时覆盖，失败时保持不变
+     * @param secretKeySpec
+     * @param chunkSize
+     * @param executor      为空时在当前线程串行处理
+     * @return 头部信息
+     * @throws IOException
+     * @throws GeneralSecurityException
+     */
+    public static Header encryptFile(Path source, Path target, SecretKeySpec secretKeySpec, int chunkSize, Executor executor) throws IOException, GeneralSecurityException {
+        try (FileChannel sourceChannel = FileChannel.open(source, StandardOpenOption.READ)) {
+            Header header = Header.create(chunkSize, sourceChannel.size());
+            byte[] headerBytes = header.toBytes();
+            writeThenMove(target, targetChannel -> {
+                writeFully(targetChannel, ByteBuffer.wrap(headerBytes), 0);
+                runChunks(header.getChunkCount(), executor, index -> {
+                    int plainChunkLength = header.plainChunkLength(index);
+                    ByteBuffer plain = ByteBuffer.allocate(plainChunkLength);
+                    readFully(sourceChannel, plain, (long) index * chunkSize);
+                    plain.flip();
+                    byte[] chunkHeader = header.chunkHeader(index);
+                    ByteBuffer encrypted = ByteBuffer.allocate(CHUNK_HEADER_LENGTH + plainChunkLength + TAG_LENGTH);
+                    encrypted.put(chunkHeader);
+                    initCipher(Cipher.ENCRYPT_MODE, secretKeySpec, header, headerBytes, chunkHeader, index).doFinal(plain, encrypted);
+                    encrypted.flip();
+                    writeFully(targetChannel, encrypted, header.chunkOffset(index));
+                });
+            });
+            return header;
+        }
+    }
+
+    /**
+     * 解密文件，各块按位置并行读写，先写入同目录临时文件，全部块认证通过后再替换目标文件，
+     * 失败时不留下部分明文
+     *
+     * @param source
+     * @param target        已存在时覆盖，失败时保持不变
+     * @param secretKeySpec
+     * @param executor      为空时在当前线程串行处理
+     * @return 头部信息
+     * @throws IOException
+     * @throws GeneralSecurityException 任一块认证失败时抛出 AEADBadTagException
+     */
+    public static Header decryptFile(Path source, Path target, SecretKeySpec secretKeySpec, Executor executor) throws IOException, GeneralSecurityException {
+        try (FileChannel sourceChannel = FileChannel.open(source, StandardOpenOption.READ)) {
+            Header header = readHeader(sourceChannel);
+            if (header.getContainerLength() != sourceChannel.size()) {
+                throw new GeneralSecurityException("container length mismatch");
+            }
+            byte[] headerBytes = header.toBytes();
+            writeThenMove(target, targetChannel -> runChunks(header.getChunkCount(), executor, index -> {
+                ByteBuffer plain = ByteBuffer.wrap(decryptChunk(sourceChannel, secretKeySpec, header, headerBytes, index));
+                writeFully(targetChannel, plain, (long) index * header.getChunkSize());
+            }));
+            return header;
+        }
+    }
+
+    /**
+     * 读取头部
+     *
+     * @param fileChannel
+     * @return
+     * @throws IOException
+     * @throws GeneralSecurityException 格式不符
+     */
+    public static Header readHeader(FileChannel fileChannel) throws IOException, GeneralSecurityException {
+        ByteBuffer headerBuffer = ByteBuffer.allocate(HEADER_LENGTH);
+        readFully(fileChannel, headerBuffer, 0);
+        headerBuffer.flip();
+        return Header.parse(headerBuffer);
+    }
+
+    /**
+     * 随机访问解密单个块
+     *
+     * @param fileChannel
+     * @param secretKeySpec
+     * @param index         块序号，从0开始
+     * @return 该块明文
+     * @throws IOException
+     * @throws GeneralSecurityException
+     */
+    public static byte[] decryptChunk(FileChannel fileChannel, SecretKeySpec secretKeySpec, int index) throws IOException, GeneralSecurityException {
+        Header header = readHeader(fileChannel);
+        return decryptChunk(fileChannel, secretKeySpec, header, header.toBytes(), index);
+    }
+
+    private static byte[] decryptChunk(FileChannel fileChannel, SecretKeySpec secretKeySpec, Header header, byte[] headerBytes, int index) throws IOException, GeneralSecurityException {
+        if (index < 0 || index >= header.getChunkCount()) {
+            throw new IndexOutOfBoundsException(String.format("chunk index<%d> count<%d>", index, header.getChunkCount()));
+        }
+        ByteBuffer encrypted = ByteBuffer.allocate(CHUNK_HEADER_LENGTH + header.plainChunkLength(index) + TAG_LENGTH);
+        readFully(fileChannel, encrypted, header.chunkOffset(index));
+        byte[] chunkHeader = checkChunkHeader(header, index, encrypted.array(), 0);
+        return initCipher(Cipher.DECRYPT_MODE, secretKeySpec, header, headerBytes, chunkHeader, index)
+                .doFinal(encrypted.array(), CHUNK_HEADER_LENGTH, encrypted.capacity() - CHUNK_HEADER_LENGTH);
+    }
+
+    /**
+     * 校验块头与按序号计算的结果一致，块头同时参与认证，此处用于尽早给出明确的错误
+     *
+     * @param header
+     * @param index
+     * @param bytes
+     * @param offset
+     * @return 块头
+     * @throws GeneralSecurityException
+     */
+    private static byte[] checkChunkHeader(Header header, int index, byte[] bytes, int offset) throws GeneralSecurityException {
+        byte[] chunkHeader = header.chunkHeader(index);
+        for (int i = 0; i < CHUNK_HEADER_LENGTH; i++) {
+            if (bytes[offset + i] != chunkHeader[i]) {
+                throw new GeneralSecurityException(String.format("chunk header mismatch index<%d>", index));
+            }
+        }
+        return chunkHeader;
+    }
+
+    private static Cipher initCipher(int mode, SecretKeySpec secretKeySpec, Header header, byte[] headerBytes, byte[] chunkHeader, int index) throws GeneralSecurityException {
+        byte[] nonce = new byte[AESStreams.GCM_IV_LENGTH];
+        System.arraycopy(header.noncePrefix, 0, nonce, 0, NONCE_PREFIX_LENGTH);
+        nonce[8] = (byte) (index >>> 24);
+        nonce[9] = (byte) (index >>> 16);
+        nonce[10] = (byte) (index >>> 8);
+        nonce[11] = (byte) index;
+        // 任务在线程池线程内完成，可使用线程内复用的 Cipher
+        Cipher cipher = CryptoInstances.cipher(AESStreams.TRANSFORMATION_GCM);
+        cipher.init(mode, secretKeySpec, new GCMParameterSpec(AESStreams.GCM_TAG_BITS, nonce));
+        cipher.updateAAD(headerBytes);
+        cipher.updateAAD(chunkHeader);
+        return cipher;
+    }
+
+    /**
+     * 内存中的块处理不会产生 IO 异常
+     */
+    private static void runInMemory(int chunkCount, Executor executor, ChunkTask chunkTask) throws GeneralSecurityException {
+        try {
+            runChunks(chunkCount, executor, chunkTask);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void runChunks(int chunkCount, Executor executor, ChunkTask chunkTask) throws IOException, GeneralSecurityException {
+        if (Objects.isNull(executor) || chunkCount == 1) {
+            for (int i = 0; i < chunkCount; i++) {
+                chunkTask.run(i);
+            }
+            return;
+        }
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[chunkCount];
+        for (int i = 0; i < chunkCount; i++) {
+            int index = i;
+            futures[i] = CompletableFuture.runAsync(() -> {
+                try {
+                    chunkTask.run(index);
+                } catch (IOException | GeneralSecurityException e) {
+                    throw new CompletionException(e);
+                }
+            }, executor);
+        }
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            if (e.getCause() instanceof GeneralSecurityException) {
+                throw (GeneralSecurityException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 写入目标同目录下的临时文件，成功后替换目标文件，失败时删除临时文件
+     *
+     * @param target
+     * @param targetWriter
+     * @throws IOException
+     * @throws GeneralSecurityException
+     */
+    private static void writeThenMove(Path target, TargetWriter targetWriter) throws IOException, GeneralSecurityException {
+        Path directory = target.toAbsolutePath().getParent();
+        Path temp = Files.createTempFile(directory, target.getFileName().toString(), ".tmp");
+        boolean moved = false;
+        try {
+            try (FileChannel targetChannel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                targetWriter.write(targetChannel);
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            moved = true;
+        } finally {
+            if (!moved) {
+                Files.deleteIfExists(temp);
+            }
+        }
+    }
+
+    private static void readFully(FileChannel fileChannel, ByteBuffer byteBuffer, long position) throws IOException {
+        while (byteBuffer.hasRemaining()) {
+            int read = fileChannel.read(byteBuffer, position);
+            if (read < 0) {
+                throw new EOFException(String.format("unexpected end at position<%d>", position));
+            }
+            position += read;
+        }
+    }
+
+    private static void writeFully(FileChannel fileChannel, ByteBuffer byteBuffer, long position) throws IOException {
+        while (byteBuffer.hasRemaining()) {
+            position += fileChannel.write(byteBuffer, position);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChunkTask {
+
+        void run(int index) throws IOException, GeneralSecurityException;
+    }
+
+    @FunctionalInterface
+    private interface TargetWriter {
+
+        void write(FileChannel targetChannel) throws IOException, GeneralSecurityException;
+    }
+
+    /**
+     * 容器头部
+     */
+    @Getter
+    public static class Header {
+
+        private final int chunkSize;
+
+        private final long plainLength;
+
+        @Getter(AccessLevel.NONE)
+        private final byte[] noncePrefix;
+
+        /**
+         * 块数量，空内容也有一个空块用于认证
+         */
+        private final int chunkCount;
+
+        private Header(int chunkSize, long plainLength, byte[] noncePrefix) {
+            this.chunkSize = chunkSize;
+            this.plainLength = plainLength;
+            this.noncePrefix = noncePrefix;
+            long count = Math.max(1L, (plainLength + chunkSize - 1) / chunkSize);
+            if (count > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException(String.format("too many chunks plainLength<%d> chunkSize<%d>", plainLength, chunkSize));
+            }
+            this.chunkCount = (int) count;
+        }
+
+        private static Header create(int chunkSize, long plainLength) {
+            if (chunkSize <= 0) {
+                throw new IllegalArgumentException("chunkSize must be greater than 0");
+            }
+            byte[] noncePrefix = new byte[NONCE_PREFIX_LENGTH];
+            SECURE_RANDOM.nextBytes(noncePrefix);
+            return new Header(chunkSize, plainLength, noncePrefix);
+        }
+
+        private static Header parse(ByteBuffer byteBuffer) throws GeneralSecurityException {
+            if (byteBuffer.remaining() < HEADER_LENGTH || byteBuffer.getInt() != MAGIC || byteBuffer.get() != VERSION) {
+                throw new GeneralSecurityException("not an aes chunked container");
+            }
+            int chunkSize = byteBuffer.getInt();
+            long plainLength = byteBuffer.getLong();
+            byte[] noncePrefix = new byte[NONCE_PREFIX_LENGTH];
+            byteBuffer.get(noncePrefix);
+            if (chunkSize <= 0 || plainLength < 0) {
+                throw new GeneralSecurityException("illegal aes chunked container header");
+            }
+            return new Header(chunkSize, plainLength, noncePrefix);
+        }
+
+        private byte[] toBytes() {
+            ByteBuffer byteBuffer = ByteBuffer.allocate(HEADER_LENGTH);
+            byteBuffer.putInt(MAGIC).put(VERSION).putInt(chunkSize).putLong(plainLength).put(noncePrefix);
+            return byteBuffer.array();
+        }
+
+        /**
+         * nonce 前缀，返回副本
+         *
+         * @return
+         */
+        public byte[] getNoncePrefix() {
+            return noncePrefix.clone();
+        }
+
+        /**
+         * 容器总长度
+         *
+         * @return
+         */
+        public long getContainerLength() {
+            return HEADER_LENGTH + plainLength + (long) chunkCount * (CHUNK_HEADER_LENGTH + TAG_LENGTH);
+        }
+
+        /**
+         * 块在容器中的起始位置，指向块头
+         *
+         * @param index
+         * @return
+         */
+        public long chunkOffset(int index) {
+            return HEADER_LENGTH + (long) index * (CHUNK_HEADER_LENGTH + chunkSize + TAG_LENGTH);
+        }
+
+        /**
+         * 块明文长度
+         *
+         * @param index
+         * @return
+         */
+        public int plainChunkLength(int index) {
+            return (int) Math.min(chunkSize, plainLength - (long) index * chunkSize);
+        }
+
+        private byte[] chunkHeader(int index) {
+            return ByteBuffer.allocate(CHUNK_HEADER_LENGTH).putInt(index).putInt(plainChunkLength(index)).array();
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package per.nonlone.utils.encrypt;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import javax.crypto.Cipher;
+import javax.crypto.IllegalBlockSizeException;
+import javax.crypto.KeyGenerator;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
+import java.security.NoSuchAlgorithmException;
+import java.security.Provider;
+import java.security.SecureRandom;
+import java.security.Security;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AES 加解密引擎
+ * <p>
+ * 由字符串派生的密钥缓存在有界缓存中，Cipher 按线程复用，
+ * 避免每次调用都重新创建 SecureRandom、KeyGenerator 和 Cipher
+ * </p>
+ */
+public abstract class AESEngine {
+
+    /**
+     * 默认模式，与 Cipher.getInstance("AES") 一致，即 AES/ECB/PKCS5Padding
+     */
+    public static final String TRANSFORMATION_DEFAULT = "AES";
+
+    /**
+     * ECB PKCS7 模式，需要 BouncyCastle
+     */
+    public static final String TRANSFORMATION_ECB_PKCS7 = "AES/ECB/PKCS7Padding";
+
+    /**
+     * 缓存密钥数量上限
+     */
+    public static final int MAX_CACHED_KEYS = 1024;
+
+    private static final String ALGORITHM = "AES";
+
+    /**
+     * SHA1PRNG 派生密钥
+     */
+    private static final Cache<String, SecretKeySpec> DERIVED_KEYS = CacheBuilder.newBuilder()
+            .maximumSize(MAX_CACHED_KEYS).expireAfterAccess(1, TimeUnit.HOURS).build();
+
+    /**
+     * 原始字节密钥
+     */
+    private static final Cache<String, SecretKeySpec> RAW_KEYS = CacheBuilder.newBuilder()
+            .maximumSize(MAX_CACHED_KEYS).expireAfterAccess(1, TimeUnit.HOURS).build();
+
+    /**
+     * 以字符串为种子经 SHA1PRNG 派生的128位密钥
+     *
+     * @param key
+     * @return
+     * @throws NoSuchAlgorithmException
+     */
+    public static SecretKeySpec derivedKey(String key) throws NoSuchAlgorithmException {
+        SecretKeySpec secretKeySpec = DERIVED_KEYS.getIfPresent(key);
+        if (Objects.isNull(secretKeySpec)) {
+            //防止linux下 随机生成key
+            Provider provider = Security.getProvider("SUN");
+            SecureRandom secureRandom = SecureRandom.getInstance("SHA1PRNG", provider);
+            secureRandom.setSeed(key.getBytes());
+            KeyGenerator keyGenerator = KeyGenerator.getInstance(ALGORITHM);
+            keyGenerator.init(secureRandom);
+            secretKeySpec = new SecretKeySpec(keyGenerator.generateKey().getEncoded(), ALGORITHM);
+            DERIVED_KEYS.put(key, secretKeySpec);
+        }
+        return secretKeySpec;
+    }
+
+    /**
+     * 直接以字符串字节为密钥
+     *
+     * @param key 长度需为16、24或32字节
+     * @return
+     */
+    public static SecretKeySpec rawKey(String key) {
+        SecretKeySpec secretKeySpec = RAW_KEYS.getIfPresent(key);
+        if (Objects.isNull(secretKeySpec)) {
+            secretKeySpec = new SecretKeySpec(key.getBytes(), ALGORITHM);
+            RAW_KEYS.put(key, secretKeySpec);
+        }
+        return secretKeySpec;
+    }
+
+    /**
+     * 加密
+     *
+     * @param content
+     * @param secretKeySpec
+     * @param transformation
+     * @return
+     * @throws GeneralSecurityException
+     */
+    public static byte[] encrypt(byte[] content, SecretKeySpec secretKeySpec, String transformation) throws GeneralSecurityException {
+        return doFinal(Cipher.ENCRYPT_MODE, content, secretKeySpec, transformation);
+    }
+
+    /**
+     * 解密
+     *
+     * @param content
+     * @param secretKeySpec
+     * @param transformation
+     * @return
+     * @throws GeneralSecurityException
+     */
+    public static byte[] decrypt(byte[] content, SecretKeySpec secretKeySpec, String transformation) throws GeneralSecurityException {
+        return doFinal(Cipher.DECRYPT_MODE, content, secretKeySpec, transformation);
+    }
+
+    /**
+     * 加密，需要 IV 的模式随机生成 IV 并放在密文开头
+     *
+     * @param content
+     * @param secretKeySpec
+     * @param transformation 如 {@link AESStreams#TRANSFORMATION_GCM}
+     * @return IV + 密文
+     * @throws GeneralSecurityException
+     */
+    public static byte[] encryptWithIv(byte[] content, SecretKeySpec secretKeySpec, String transformation) throws GeneralSecurityException {
+        Cipher cipher = CryptoInstances.cipher(transformation);
+        byte[] iv = AESStreams.initEncrypt(cipher, secretKeySpec, transformation);
+        byte[] result = new byte[iv.length + cipher.getOutputSize(content.length)];
+        System.arraycopy(iv, 0, result, 0, iv.length);
+        int length = iv.length + cipher.doFinal(content, 0, content.length, result, iv.length);
+        return length == result.length ? result : Arrays.copyOf(result, length);
+    }
+
+    /**
+     * 解密 {@link #encryptWithIv(byte[], SecretKeySpec, String)} 的结果
+     *
+     * @param content        IV + 密文
+     * @param secretKeySpec
+     * @param transformation
+     * @return
+     * @throws GeneralSecurityException GCM 认证失败时抛出 AEADBadTagException
+     */
+    public static byte[] decryptWithIv(byte[] content, SecretKeySpec secretKeySpec, String transformation) throws GeneralSecurityException {
+        int ivLength = AESStreams.ivLength(transformation);
+        if (content.length < ivLength) {
+            throw new IllegalBlockSizeException("content shorter than iv");
+        }
+        Cipher cipher = CryptoInstances.cipher(transformation);
+        cipher.init(Cipher.DECRYPT_MODE, secretKeySpec, AESStreams.parameterSpec(transformation, Arrays.copyOf(content, ivLength)));
+        return cipher.doFinal(content, ivLength, content.length - ivLength);
+    }
+
+    /**
+     * 清空密钥缓存
+     */
+    public static void invalidateKeys() {
+        DERIVED_KEYS.invalidateAll();
+        RAW_KEYS.invalidateAll();
+    }
+
+    private static byte[] doFinal(int mode, byte[] content, SecretKeySpec secretKeySpec, String transformation) throws GeneralSecurityException {
+        Cipher cipher = CryptoInstances.cipher(transformation);
+        cipher.init(mode, secretKeySpec);
+        return cipher.doFinal(content);
+    }
+}
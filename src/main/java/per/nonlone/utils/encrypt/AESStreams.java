@@ -0,0 +1,348 @@
+package per.nonlone.utils.encrypt;
+
+import javax.crypto.Cipher;
+import javax.crypto.CipherInputStream;
+import javax.crypto.CipherOutputStream;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.security.spec.AlgorithmParameterSpec;
+
+/**
+ * AES 流式加解密
+ * <p>
+ * 以固定大小的线程内缓冲分段调用 Cipher.update，明文和密文不需要整体驻留内存。
+ * 需要 IV 的模式（GCM、CBC、CTR 等）每次加密随机生成 IV 并写在密文开头，解密时先读取 IV。
+ * 注意 JDK 的 GCM 解密会缓存全部密文直到校验标签通过才输出
+ * </p>
+ */
+public abstract class AESStreams {
+
+    /**
+     * 带认证的 GCM 模式
+     */
+    public static final String TRANSFORMATION_GCM = "AES/GCM/NoPadding";
+
+    /**
+     * GCM 推荐 IV 长度
+     */
+    public static final int GCM_IV_LENGTH = 12;
+
+    /**
+     * GCM 认证标签长度，位
+     */
+    public static final int GCM_TAG_BITS = 128;
+
+    /**
+     * 分段缓冲大小
+     */
+    public static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final int BLOCK_SIZE = 16;
+
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+    /**
+     * 下标 0 为输入缓冲，1 为输出缓冲，输出缓冲不足时扩容
+     */
+    private static final ThreadLocal<byte[][]> ARRAY_BUFFERS = ThreadLocal.withInitial(
+            () -> new byte[][]{new byte[BUFFER_SIZE], new byte[BUFFER_SIZE + 2 * BLOCK_SIZE]});
+
+    private static final ThreadLocal<ByteBuffer[]> DIRECT_BUFFERS = ThreadLocal.withInitial(
+            () -> new ByteBuffer[]{ByteBuffer.allocateDirect(BUFFER_SIZE), ByteBuffer.allocateDirect(BUFFER_SIZE + 2 * BLOCK_SIZE)});
+
+    /**
+     * 加密输入流写入输出流，不关闭流
+     *
+     * @param inputStream
+     * @param outputStream
+     * @param secretKeySpec
+     * @param transformation
+     * @return 写出字节数，含 IV
+     * @throws IOException
+     * @throws GeneralSecurityException
+     */
+    public static long encrypt(InputStream inputStream, OutputStream outputStream, SecretKeySpec secretKeySpec, String transformation) throws IOException, GeneralSecurityException {
+        Cipher cipher = CryptoInstances.cipher(transformation);
+        byte[] iv = initEncrypt(cipher, secretKeySpec, transformation);
+        outputStream.write(iv);
+        return iv.length + copy(cipher, inputStream, outputStream);
+    }
+
+    /**
+     * 解密输入流写入输出流，不关闭流
+     *
+     * @param inputStream
+     * @param outputStream
+     * @param secretKeySpec
+     * @param transformation
+     * @return 写出字节数
+     * @throws IOException
+     * @throws GeneralSecurityException GCM 认证失败时抛出 AEADBadTagException
+     */
+    public static long decrypt(InputStream inputStream, OutputStream outputStream, SecretKeySpec secretKeySpec, String transformation) throws IOException, GeneralSecurityException {
+        Cipher cipher = CryptoInstances.cipher(transformation);
+        byte[] iv = new byte[ivLength(transformation)];
+        readFully(inputStream, iv);
+        cipher.init(Cipher.DECRYPT_MODE, secretKeySpec, parameterSpec(transformation, iv));
+        return copy(cipher, inputStream, outputStream);
+    }
+
+    /**
+     * 加密通道数据，使用线程内复用的直接缓冲，不关闭通道
+     *
+     * @param readableByteChannel
+     * @param writableByteChannel
+     * @param secretKeySpec
+     * @param transformation
+     * @return 写出字节数，含 IV
+     * @throws IOException
+     * @throws GeneralSecurityException
+     */
+    public static long encrypt(ReadableByteChannel readableByteChannel, WritableByteChannel writableByteChannel, SecretKeySpec secretKeySpec, String transformation) throws IOException, GeneralSecurityException {
+        Cipher cipher = CryptoInstances.cipher(transformation);
+        byte[] iv = initEncrypt(cipher, secretKeySpec, transformation);
+        writeFully(writableByteChannel, ByteBuffer.wrap(iv));
+        return iv.length + copy(cipher, readableByteChannel, writableByteChannel);
+    }
+
+    /**
+     * 解密通道数据，使用线程内复用的直接缓冲，不关闭通道
+     *
+     * @param readableByteChannel
+     * @param writableByteChannel
+     * @param secretKeySpec
+     * @param transformation
+     * @return 写出字节数
+     * @throws IOException
+     * @throws GeneralSecurityException
+     */
+    public static long decrypt(ReadableByteChannel readableByteChannel, WritableByteChannel writableByteChannel, SecretKeySpec secretKeySpec, String transformation) throws IOException, GeneralSecurityException {
+        Cipher cipher = CryptoInstances.cipher(transformation);
+        ByteBuffer iv = ByteBuffer.allocate(ivLength(transformation));
+        while (iv.hasRemaining()) {
+            if (readableByteChannel.read(iv) < 0) {
+                throw new EOFException("missing iv");
+            }
+        }
+        cipher.init(Cipher.DECRYPT_MODE, secretKeySpec, parameterSpec(transformation, iv.array()));
+        return copy(cipher, readableByteChannel, writableByteChannel);
+    }
+
+    /**
+     * 加密文件
+     *
+     * @param source
+     * @param target 已存在时覆盖
+     * @param secretKeySpec
+     * @param transformation
+     * @return 写出字节数
+     * @throws IOException
+     * @throws GeneralSecurityException
+     */
+    public static long encryptFile(Path source, Path target, SecretKeySpec secretKeySpec, String transformation) throws IOException, GeneralSecurityException {
+        try (FileChannel sourceChannel = FileChannel.open(source, StandardOpenOption.READ);
+             FileChannel targetChannel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            return encrypt(sourceChannel, targetChannel, secretKeySpec, transformation);
+        }
+    }
+
+    /**
+     * 解密文件
+     *
+     * @param source
+     * @param target 已存在时覆盖
+     * @param secretKeySpec
+     * @param transformation
+     * @return 写出字节数
+     * @throws IOException
+     * @throws GeneralSecurityException
+     */
+    public static long decryptFile(Path source, Path target, SecretKeySpec secretKeySpec, String transformation) throws IOException, GeneralSecurityException {
+        try (FileChannel sourceChannel = FileChannel.open(source, StandardOpenOption.READ);
+             FileChannel targetChannel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            return decrypt(sourceChannel, targetChannel, secretKeySpec, transformation);
+        }
+    }
+
+    /**
+     * 包装为加密输出流，关闭时写出最后一段密文
+     *
+     * @param outputStream
+     * @param secretKeySpec
+     * @param transformation
+     * @return
+     * @throws IOException
+     * @throws GeneralSecurityException
+     */
+    public static OutputStream encryptingStream(OutputStream outputStream, SecretKeySpec secretKeySpec, String transformation) throws IOException, GeneralSecurityException {
+        // 流的生命周期不受当前调用控制，不能使用线程内复用的 Cipher
+        Cipher cipher = CryptoInstances.newCipher(transformation);
+        byte[] iv = initEncrypt(cipher, secretKeySpec, transformation);
+        outputStream.write(iv);
+        return new CipherOutputStream(outputStream, cipher);
+    }
+
+    /**
+     * 包装为解密输入流
+     *
+     * @param inputStream
+     * @param secretKeySpec
+     * @param transformation
+     * @return
+     * @throws IOException
+     * @throws GeneralSecurityException
+     */
+    public static InputStream decryptingStream(InputStream inputStream, SecretKeySpec secretKeySpec, String transformation) throws IOException, GeneralSecurityException {
+        Cipher cipher = CryptoInstances.newCipher(transformation);
+        byte[] iv = new byte[ivLength(transformation)];
+        readFully(inputStream, iv);
+        cipher.init(Cipher.DECRYPT_MODE, secretKeySpec, parameterSpec(transformation, iv));
+        return new CipherInputStream(inputStream, cipher);
+    }
+
+    /**
+     * 模式对应的 IV 长度
+     *
+     * @param transformation
+     * @return ECB 模式返回 0
+     */
+    public static int ivLength(String transformation) {
+        int modeStart = transformation.indexOf('/');
+        if (modeStart < 0) {
+            return 0;
+        }
+        int modeEnd = transformation.indexOf('/', modeStart + 1);
+        String mode = transformation.substring(modeStart + 1, modeEnd < 0 ? transformation.length() : modeEnd);
+        if ("GCM".equalsIgnoreCase(mode)) {
+            return GCM_IV_LENGTH;
+        }
+        return "ECB".equalsIgnoreCase(mode) ? 0 : BLOCK_SIZE;
+    }
+
+    /**
+     * 生成随机 IV 并初始化加密
+     *
+     * @return IV，ECB 模式为空数组
+     */
+    static byte[] initEncrypt(Cipher cipher, SecretKeySpec secretKeySpec, String transformation) throws GeneralSecurityException {
+        byte[] iv = new byte[ivLength(transformation)];
+        if (iv.length == 0) {
+            cipher.init(Cipher.ENCRYPT_MODE, secretKeySpec);
+        } else {
+            SECURE_RANDOM.nextBytes(iv);
+            cipher.init(Cipher.ENCRYPT_MODE, secretKeySpec, parameterSpec(transformation, iv));
+        }
+        return iv;
+    }
+
+    /**
+     * IV 对应的参数
+     *
+     * @return ECB 模式返回 null
+     */
+    static AlgorithmParameterSpec parameterSpec(String transformation, byte[] iv) {
+        if (iv.length == 0) {
+            return null;
+        }
+        return iv.length == GCM_IV_LENGTH ? new GCMParameterSpec(GCM_TAG_BITS, iv) : new IvParameterSpec(iv);
+    }
+
+    private static long copy(Cipher cipher, InputStream inputStream, OutputStream outputStream) throws IOException, GeneralSecurityException {
+        byte[][] buffers = ARRAY_BUFFERS.get();
+        byte[] input = buffers[0];
+        long total = 0;
+        int read;
+        while ((read = inputStream.read(input)) >= 0) {
+            if (read == 0) {
+                continue;
+            }
+            int count = update(cipher, buffers, read);
+            outputStream.write(buffers[1], 0, count);
+            total += count;
+        }
+        byte[] last = cipher.doFinal();
+        outputStream.write(last);
+        return total + last.length;
+    }
+
+    private static long copy(Cipher cipher, ReadableByteChannel readableByteChannel, WritableByteChannel writableByteChannel) throws IOException, GeneralSecurityException {
+        ByteBuffer[] buffers = DIRECT_BUFFERS.get();
+        ByteBuffer input = buffers[0];
+        ByteBuffer output = buffers[1];
+        long total = 0;
+        input.clear();
+        while (readableByteChannel.read(input) >= 0) {
+            input.flip();
+            if (!input.hasRemaining()) {
+                input.clear();
+                continue;
+            }
+            output.clear();
+            if (cipher.getOutputSize(input.remaining()) <= output.remaining()) {
+                cipher.update(input, output);
+                output.flip();
+                total += writeFully(writableByteChannel, output);
+            } else {
+                // GCM 解密在校验前只缓存不输出，输出大小按已缓存数据计算，改用数组分段
+                byte[][] arrays = ARRAY_BUFFERS.get();
+                int length = input.remaining();
+                input.get(arrays[0], 0, length);
+                int count = update(cipher, arrays, length);
+                total += writeFully(writableByteChannel, ByteBuffer.wrap(arrays[1], 0, count));
+            }
+            input.clear();
+        }
+        return total + writeFully(writableByteChannel, ByteBuffer.wrap(cipher.doFinal()));
+    }
+
+    /**
+     * buffers[0] 的前 length 字节分段加解密到 buffers[1]
+     * <p>
+     * JDK 的 GCM 解密在校验前不输出，getOutputSize 按已缓存数据计算会偏大，因此不按其预判，
+     * 输出缓冲确实不足时扩容后重试
+     * </p>
+     *
+     * @return 输出字节数
+     */
+    private static int update(Cipher cipher, byte[][] buffers, int length) throws ShortBufferException {
+        try {
+            return cipher.update(buffers[0], 0, length, buffers[1], 0);
+        } catch (ShortBufferException e) {
+            buffers[1] = new byte[cipher.getOutputSize(length)];
+            return cipher.update(buffers[0], 0, length, buffers[1], 0);
+        }
+    }
+
+    private static int writeFully(WritableByteChannel writableByteChannel, ByteBuffer byteBuffer) throws IOException {
+        int count = byteBuffer.remaining();
+        while (byteBuffer.hasRemaining()) {
+            writableByteChannel.write(byteBuffer);
+        }
+        return count;
+    }
+
+    private static void readFully(InputStream inputStream, byte[] bytes) throws IOException {
+        int offset = 0;
+        while (offset < bytes.length) {
+            int read = inputStream.read(bytes, offset, bytes.length - offset);
+            if (read < 0) {
+                throw new EOFException("missing iv");
+            }
+            offset += read;
+        }
+    }
+}
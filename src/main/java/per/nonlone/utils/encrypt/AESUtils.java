@@ -5,10 +5,6 @@ import com.google.common.io.BaseEncoding;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang.StringUtils;
 
-import javax.crypto.Cipher;
-import javax.crypto.KeyGenerator;
-import javax.crypto.SecretKey;
-import javax.crypto.spec.SecretKeySpec;
 import java.io.UnsupportedEncodingException;
 import java.security.*;
 import java.util.Arrays;
@@ -29,25 +25,6 @@ public abstract class AESUtils {
         Security.addProvider(new org.bouncycastle.jce.provider.BouncyCastleProvider());
     }
 
-    /**
-     * 获得密钥
-     *
-     * @param secretKey
-     * @return
-     * @throws Exception
-     */
-    private static SecretKey generateKey(String secretKey) throws NoSuchAlgorithmException {
-        //防止linux下 随机生成key
-        Provider p = Security.getProvider("SUN");
-        SecureRandom secureRandom = SecureRandom.getInstance("SHA1PRNG", p);
-        secureRandom.setSeed(secretKey.getBytes());
-        KeyGenerator kg = KeyGenerator.getInstance("AES");
-        kg.init(secureRandom);
-        // 生成密钥
-        return kg.generateKey();
-    }
-
-
     /**
      * AES 加密
      *
@@ -59,13 +36,7 @@ public abstract class AESUtils {
         if (StringUtils.isBlank(key)) {
             key = DEFAULT_KEY;
         }
-        SecretKey secretKey = generateKey(key);
-        byte[] enCodeFormat = secretKey.getEncoded();
-        SecretKeySpec secretKeySpec = new SecretKeySpec(enCodeFormat, "AES");
-        Cipher cipher = Cipher.getInstance("AES");
-        byte[] byteContent = content.getBytes("utf-8");
-        cipher.init(Cipher.ENCRYPT_MODE, secretKeySpec);
-        return cipher.doFinal(byteContent);
+        return AESEngine.encrypt(content.getBytes("utf-8"), AESEngine.derivedKey(key), AESEngine.TRANSFORMATION_DEFAULT);
     }
 
     /**
@@ -101,23 +72,42 @@ public abstract class AESUtils {
         if (StringUtils.isBlank(key)) {
             key = DEFAULT_KEY;
         }
-        SecretKey secretKey = generateKey(key);
-        byte[] enCodeFormat = secretKey.getEncoded();
-        SecretKeySpec secretKeySpec = new SecretKeySpec(enCodeFormat, "AES");
-        Cipher cipher = Cipher.getInstance("AES");
-        cipher.init(Cipher.DECRYPT_MODE, secretKeySpec);
-        return cipher.doFinal(content);
+        return AESEngine.decrypt(content, AESEngine.derivedKey(key), AESEngine.TRANSFORMATION_DEFAULT);
+    }
+
+    /**
+     * AES GCM 加密，随机 IV 放在密文开头，带认证标签
+     *
+     * @param content
+     * @param key
+     * @return IV + 密文
+     * @throws GeneralSecurityException
+     * @throws UnsupportedEncodingException
+     */
+    public static byte[] aesEncryptWithGCM(String content, String key) throws GeneralSecurityException, UnsupportedEncodingException {
+        if (StringUtils.isBlank(key)) {
+            key = DEFAULT_KEY;
+        }
+        return AESEngine.encryptWithIv(content.getBytes("utf-8"), AESEngine.derivedKey(key), AESStreams.TRANSFORMATION_GCM);
+    }
+
+    /**
+     * AES GCM 解密
+     *
+     * @param content IV + 密文
+     * @param key
+     * @return
+     * @throws GeneralSecurityException 密文被篡改时抛出 AEADBadTagException
+     */
+    public static byte[] aesDecryptWithGCM(byte[] content, String key) throws GeneralSecurityException {
+        if (StringUtils.isBlank(key)) {
+            key = DEFAULT_KEY;
+        }
+        return AESEngine.decryptWithIv(content, AESEngine.derivedKey(key), AESStreams.TRANSFORMATION_GCM);
     }
 
     public static byte[] aesEncryptWithECBAndPKCS7(String content, String pkey) throws UnsupportedEncodingException, GeneralSecurityException {
-        SecretKeySpec key = new SecretKeySpec(pkey.getBytes(), "AES");
-        // "算法/模式/补码方式"
-        Cipher cipher = Cipher.getInstance("AES/ECB/PKCS7Padding");
-        //IvParameterSpec iv = new IvParameterSpec(IV.getBytes());
-        cipher.init(Cipher.ENCRYPT_MODE, key);
-        byte[] encrypted = cipher.doFinal(content.getBytes("UTF-8"));
-        // 加密
-        return encrypted;
+        return AESEngine.encrypt(content.getBytes("UTF-8"), AESEngine.rawKey(pkey), AESEngine.TRANSFORMATION_ECB_PKCS7);
     }
 
     public static String aesEncryptWithECBAndPKCS7ToBase64(String content, String pkey) throws UnsupportedEncodingException, GeneralSecurityException {
@@ -141,14 +131,7 @@ public abstract class AESUtils {
      * @return
      */
     public static byte[] aesDecryptWithECBAndPKCS7(byte[] content, String pkey) throws UnsupportedEncodingException, GeneralSecurityException {
-        SecretKeySpec key = new SecretKeySpec(pkey.getBytes(), "AES");
-        // 创建密码器
-        Cipher cipher = Cipher.getInstance("AES/ECB/PKCS7Padding");
-        // 初始化
-        cipher.init(Cipher.DECRYPT_MODE, key);
-        byte[] result = cipher.doFinal(content);
-        // 解密
-        return result;
+        return AESEngine.decrypt(content, AESEngine.rawKey(pkey), AESEngine.TRANSFORMATION_ECB_PKCS7);
     }
 
     /**
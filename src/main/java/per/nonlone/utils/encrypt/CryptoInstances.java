@@ -0,0 +1,79 @@
+package per.nonlone.utils.encrypt;
+
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+
+import javax.crypto.Cipher;
+import javax.crypto.NoSuchPaddingException;
+import java.security.NoSuchAlgorithmException;
+import java.security.Security;
+import java.security.Signature;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 线程内复用的 Cipher / Signature
+ * <p>
+ * getInstance 需要查找 Provider 并创建实现对象，开销远大于 init，
+ * 这里按线程和算法各保留一个实例，调用方每次使用前必须重新 init，且不得跨线程传递
+ * </p>
+ */
+public abstract class CryptoInstances {
+
+    private static final ThreadLocal<Map<String, Cipher>> CIPHERS = ThreadLocal.withInitial(HashMap::new);
+
+    private static final ThreadLocal<Map<String, Signature>> SIGNATURES = ThreadLocal.withInitial(HashMap::new);
+
+    static {
+        if (Objects.isNull(Security.getProvider(BouncyCastleProvider.PROVIDER_NAME))) {
+            Security.addProvider(new BouncyCastleProvider());
+        }
+    }
+
+    /**
+     * 当前线程的 Cipher
+     *
+     * @param transformation 算法/模式/补码方式
+     * @return
+     * @throws NoSuchPaddingException
+     * @throws NoSuchAlgorithmException
+     */
+    public static Cipher cipher(String transformation) throws NoSuchPaddingException, NoSuchAlgorithmException {
+        Map<String, Cipher> cipherMap = CIPHERS.get();
+        Cipher cipher = cipherMap.get(transformation);
+        if (Objects.isNull(cipher)) {
+            cipher = Cipher.getInstance(transformation);
+            cipherMap.put(transformation, cipher);
+        }
+        return cipher;
+    }
+
+    /**
+     * 当前线程的 Signature
+     *
+     * @param algorithm 签名算法
+     * @return
+     * @throws NoSuchAlgorithmException
+     */
+    public static Signature signature(String algorithm) throws NoSuchAlgorithmException {
+        Map<String, Signature> signatureMap = SIGNATURES.get();
+        Signature signature = signatureMap.get(algorithm);
+        if (Objects.isNull(signature)) {
+            signature = Signature.getInstance(algorithm);
+            signatureMap.put(algorithm, signature);
+        }
+        return signature;
+    }
+
+    /**
+     * 新建 Cipher，供需要多个实例的并行处理使用
+     *
+     * @param transformation
+     * @return
+     * @throws NoSuchPaddingException
+     * @throws NoSuchAlgorithmException
+     */
+    public static Cipher newCipher(String transformation) throws NoSuchPaddingException, NoSuchAlgorithmException {
+        return Cipher.getInstance(transformation);
+    }
+}
@@ -0,0 +1,289 @@
+package per.nonlone.utils.encrypt;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import per.nonlone.utils.encode.Base64Utils;
+
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * RSA 批量签名/验签
+ * <p>
+ * 批量数据按区间分组，交给线程池处理，每个线程复用各自的 Signature；
+ * 密钥按 {@link RSAKeyRegistry} 注册后的密钥ID 查找。
+ * 验签结果以 BitSet 返回，第 i 位为第 i 条是否通过，
+ * 异步方法在线程池中完成计算，调用线程不会阻塞；
+ * 默认线程池队列有界，队列满时由提交线程执行该组，以此限制积压
+ * </p>
+ */
+@Slf4j
+public abstract class RSABatch {
+
+    /**
+     * 每组最少条数，条数较少时不拆分
+     */
+    public static final int MIN_GROUP_SIZE = 64;
+
+    /**
+     * 默认线程池队列容量，每次批量调用最多提交处理器数个分组
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+    private static final int WORKERS = Runtime.getRuntime().availableProcessors();
+
+    private static volatile ExecutorService defaultExecutor;
+
+    /**
+     * 默认线程池，线程数为处理器数，守护线程，队列容量 {@link #DEFAULT_QUEUE_CAPACITY}，队列满时由提交线程执行
+     *
+     * @return
+     */
+    public static ExecutorService getDefaultExecutor() {
+        if (Objects.isNull(defaultExecutor)) {
+            synchronized (RSABatch.class) {
+                if (Objects.isNull(defaultExecutor)) {
+                    AtomicInteger counter = new AtomicInteger();
+                    defaultExecutor = new ThreadPoolExecutor(WORKERS, WORKERS, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(DEFAULT_QUEUE_CAPACITY), runnable -> {
+                        Thread thread = new Thread(runnable, "rsa-batch-" + counter.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }, new ThreadPoolExecutor.CallerRunsPolicy());
+                }
+            }
+        }
+        return defaultExecutor;
+    }
+
+    /**
+     * 批量验签，使用默认签名算法和默认线程池
+     *
+     * @param verifyItemList
+     * @return
+     */
+    public static BitSet verify(List<VerifyItem> verifyItemList) {
+        return verifyAsync(verifyItemList, RSAUtils.SIGNATURE_ALGORITHM, getDefaultExecutor()).join();
+    }
+
+    /**
+     * 批量验签
+     *
+     * @param verifyItemList
+     * @param algorithm      签名算法
+     * @param executor       为空时在当前线程串行处理
+     * @return 第 i 位为第 i 条是否通过，密钥未注册或签名格式错误视为不通过
+     */
+    public static BitSet verify(List<VerifyItem> verifyItemList, String algorithm, Executor executor) {
+        if (Objects.isNull(executor)) {
+            return verifyRange(verifyItemList, algorithm, 0, verifyItemList.size());
+        }
+        return verifyAsync(verifyItemList, algorithm, executor).join();
+    }
+
+    /**
+     * 异步批量验签
+     *
+     * @param verifyItemList
+     * @param algorithm
+     * @param executor       执行验签的线程池，不能为空
+     * @return
+     */
+    public static CompletableFuture<BitSet> verifyAsync(List<VerifyItem> verifyItemList, String algorithm, Executor executor) {
+        int size = verifyItemList.size();
+        int groups = groups(size);
+        BitSet[] results = new BitSet[groups];
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[groups];
+        for (int g = 0; g < groups; g++) {
+            int index = g;
+            int from = (int) ((long) size * g / groups);
+            int to = (int) ((long) size * (g + 1) / groups);
+            futures[g] = CompletableFuture.runAsync(() -> results[index] = verifyRange(verifyItemList, algorithm, from, to), executor);
+        }
+        return CompletableFuture.allOf(futures).thenApply(v -> {
+            BitSet bitSet = new BitSet(size);
+            for (BitSet result : results) {
+                bitSet.or(result);
+            }
+            return bitSet;
+        });
+    }
+
+    /**
+     * 批量签名，使用默认签名算法和默认线程池
+     *
+     * @param signItemList
+     * @return
+     */
+    public static String[] sign(List<SignItem> signItemList) {
+        return signAsync(signItemList, RSAUtils.SIGNATURE_ALGORITHM, getDefaultExecutor()).join();
+    }
+
+    /**
+     * 批量签名
+     *
+     * @param signItemList
+     * @param algorithm    签名算法
+     * @param executor     为空时在当前线程串行处理
+     * @return BASE64 编码的签名，与输入一一对应，密钥未注册或签名失败为 null
+     */
+    public static String[] sign(List<SignItem> signItemList, String algorithm, Executor executor) {
+        if (Objects.isNull(executor)) {
+            String[] signs = new String[signItemList.size()];
+            signRange(signItemList, algorithm, 0, signs.length, signs);
+            return signs;
+        }
+        return signAsync(signItemList, algorithm, executor).join();
+    }
+
+    /**
+     * 异步批量签名
+     *
+     * @param signItemList
+     * @param algorithm
+     * @param executor     执行签名的线程池，不能为空
+     * @return
+     */
+    public static CompletableFuture<String[]> signAsync(List<SignItem> signItemList, String algorithm, Executor executor) {
+        int size = signItemList.size();
+        int groups = groups(size);
+        String[] signs = new String[size];
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[groups];
+        for (int g = 0; g < groups; g++) {
+            int from = (int) ((long) size * g / groups);
+            int to = (int) ((long) size * (g + 1) / groups);
+            futures[g] = CompletableFuture.runAsync(() -> signRange(signItemList, algorithm, from, to, signs), executor);
+        }
+        return CompletableFuture.allOf(futures).thenApply(v -> signs);
+    }
+
+    private static int groups(int size) {
+        return Math.max(1, Math.min(WORKERS, size / MIN_GROUP_SIZE));
+    }
+
+    private static BitSet verifyRange(List<VerifyItem> verifyItemList, String algorithm, int from, int to) {
+        BitSet bitSet = new BitSet(to);
+        Signature signature;
+        try {
+            signature = CryptoInstances.signature(algorithm);
+        } catch (Exception e) {
+            log.error(String.format("signature algorithm<%s> error", algorithm), e);
+            return bitSet;
+        }
+        for (int i = from; i < to; i++) {
+            VerifyItem verifyItem = verifyItemList.get(i);
+            PublicKey publicKey = RSAKeyRegistry.getPublicKey(verifyItem.getKeyId());
+            if (Objects.isNull(publicKey) || Objects.isNull(verifyItem.getSignature())) {
+                continue;
+            }
+            try {
+                signature.initVerify(publicKey);
+                signature.update(verifyItem.getData());
+                if (signature.verify(verifyItem.getSignature())) {
+                    bitSet.set(i);
+                }
+            } catch (Exception e) {
+                // 签名格式错误视为不通过
+                log.debug("verify index<{}> keyId<{}> error", i, verifyItem.getKeyId(), e);
+            }
+        }
+        return bitSet;
+    }
+
+    private static void signRange(List<SignItem> signItemList, String algorithm, int from, int to, String[] signs) {
+        Signature signature;
+        try {
+            signature = CryptoInstances.signature(algorithm);
+        } catch (Exception e) {
+            log.error(String.format("signature algorithm<%s> error", algorithm), e);
+            return;
+        }
+        for (int i = from; i < to; i++) {
+            SignItem signItem = signItemList.get(i);
+            PrivateKey privateKey = RSAKeyRegistry.getPrivateKey(signItem.getKeyId());
+            if (Objects.isNull(privateKey)) {
+                log.error("sign index<{}> keyId<{}> not registered", i, signItem.getKeyId());
+                continue;
+            }
+            try {
+                signature.initSign(privateKey);
+                signature.update(signItem.getData());
+                signs[i] = Base64Utils.encodeFromByteArray(signature.sign());
+            } catch (Exception e) {
+                log.error(String.format("sign index<%d> keyId<%s> error", i, signItem.getKeyId()), e);
+            }
+        }
+    }
+
+    /**
+     * 待验签数据
+     */
+    @Getter
+    public static class VerifyItem {
+
+        private final byte[] data;
+
+        /**
+         * 签名字节
+         */
+        private final byte[] signature;
+
+        /**
+         * 公钥ID
+         */
+        private final String keyId;
+
+        public VerifyItem(byte[] data, byte[] signature, String keyId) {
+            this.data = data;
+            this.signature = signature;
+            this.keyId = keyId;
+        }
+
+        /**
+         * 以 BASE64 签名构造，格式错误时签名为空，验签不通过
+         *
+         * @param data
+         * @param sign
+         * @param keyId
+         * @return
+         */
+        public static VerifyItem ofBase64(byte[] data, String sign, String keyId) {
+            byte[] signature = null;
+            try {
+                signature = Base64Utils.decodeFromString(sign);
+            } catch (Exception e) {
+                log.debug("decode sign<{}> error", sign, e);
+            }
+            return new VerifyItem(data, signature, keyId);
+        }
+    }
+
+    /**
+     * 待签名数据
+     */
+    @Getter
+    public static class SignItem {
+
+        private final byte[] data;
+
+        /**
+         * 私钥ID
+         */
+        private final String keyId;
+
+        public SignItem(byte[] data, String keyId) {
+            this.data = data;
+            this.keyId = keyId;
+        }
+    }
+}
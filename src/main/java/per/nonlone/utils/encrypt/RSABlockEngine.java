@@ -0,0 +1,191 @@
+package per.nonlone.utils.encrypt;
+
+import javax.crypto.Cipher;
+import javax.crypto.IllegalBlockSizeException;
+import java.security.GeneralSecurityException;
+import java.security.InvalidKeyException;
+import java.security.Key;
+import java.security.interfaces.RSAKey;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * RSA 分段加解密
+ * <p>
+ * 分段大小按密钥模长和填充方式计算，不再限定 1024 位密钥；
+ * 输出写入预先分配的数组，段数较多且指定线程池时分组并行处理，每个线程使用各自的 Cipher
+ * </p>
+ */
+public abstract class RSABlockEngine {
+
+    /**
+     * 默认填充，与 Cipher.getInstance("RSA") 一致，即 RSA/ECB/PKCS1Padding
+     */
+    public static final String TRANSFORMATION_DEFAULT = "RSA";
+
+    public static final String TRANSFORMATION_PKCS1 = "RSA/ECB/PKCS1Padding";
+
+    public static final String TRANSFORMATION_OAEP = "RSA/ECB/OAEPWithSHA-1AndMGF1Padding";
+
+    public static final String TRANSFORMATION_OAEP_SHA256 = "RSA/ECB/OAEPWithSHA-256AndMGF1Padding";
+
+    /**
+     * 段数达到该值且指定线程池时并行处理
+     */
+    public static final int PARALLEL_THRESHOLD = 8;
+
+    private static final int PKCS1_OVERHEAD = 11;
+
+    private static final int WORKERS = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * 模长字节数，即密文分段大小
+     *
+     * @param key
+     * @return
+     * @throws InvalidKeyException 非 RSA 密钥
+     */
+    public static int modulusLength(Key key) throws InvalidKeyException {
+        if (!(key instanceof RSAKey)) {
+            throw new InvalidKeyException(String.format("not a rsa key<%s>", Objects.isNull(key) ? null : key.getClass().getName()));
+        }
+        return (((RSAKey) key).getModulus().bitLength() + 7) / 8;
+    }
+
+    /**
+     * 明文分段大小
+     *
+     * @param key
+     * @param transformation
+     * @return PKCS1 为 k-11，OAEP 为 k-2*hLen-2，NoPadding 为 k
+     * @throws InvalidKeyException
+     */
+    public static int maxPlainLength(Key key, String transformation) throws InvalidKeyException {
+        int modulusLength = modulusLength(key);
+        String upper = transformation.toUpperCase();
+        if (upper.contains("OAEP")) {
+            return modulusLength - 2 * oaepHashLength(upper) - 2;
+        }
+        if (upper.endsWith("/NOPADDING")) {
+            return modulusLength;
+        }
+        return modulusLength - PKCS1_OVERHEAD;
+    }
+
+    /**
+     * 分段加密
+     *
+     * @param data
+     * @param key
+     * @param transformation
+     * @param executor       为空时在当前线程串行处理
+     * @return
+     * @throws GeneralSecurityException
+     */
+    public static byte[] encrypt(byte[] data, Key key, String transformation, Executor executor) throws GeneralSecurityException {
+        int plainLength = maxPlainLength(key, transformation);
+        int modulusLength = modulusLength(key);
+        int blocks = (data.length + plainLength - 1) / plainLength;
+        byte[] encrypted = new byte[blocks * modulusLength];
+        runBlocks(blocks, executor, (from, to) -> {
+            Cipher cipher = CryptoInstances.cipher(transformation);
+            cipher.init(Cipher.ENCRYPT_MODE, key);
+            for (int i = from; i < to; i++) {
+                int offset = i * plainLength;
+                cipher.doFinal(data, offset, Math.min(plainLength, data.length - offset), encrypted, i * modulusLength);
+            }
+        });
+        return encrypted;
+    }
+
+    /**
+     * 分段解密
+     *
+     * @param encryptedData
+     * @param key
+     * @param transformation
+     * @param executor       为空时在当前线程串行处理
+     * @return
+     * @throws GeneralSecurityException 密文长度不是模长整数倍时抛出 IllegalBlockSizeException
+     */
+    public static byte[] decrypt(byte[] encryptedData, Key key, String transformation, Executor executor) throws GeneralSecurityException {
+        int plainLength = maxPlainLength(key, transformation);
+        int modulusLength = modulusLength(key);
+        if (encryptedData.length % modulusLength != 0) {
+            throw new IllegalBlockSizeException(String.format("data length<%d> is not a multiple of modulus length<%d>",
+                    encryptedData.length, modulusLength));
+        }
+        int blocks = encryptedData.length / modulusLength;
+        // 每段明文写到 i*plainLength 处，再按实际长度压缩；Cipher 按模长检查输出空间，末尾需留出余量
+        byte[] buffer = new byte[blocks * plainLength + modulusLength - plainLength];
+        int[] lengths = new int[blocks];
+        runBlocks(blocks, executor, (from, to) -> {
+            Cipher cipher = CryptoInstances.cipher(transformation);
+            cipher.init(Cipher.DECRYPT_MODE, key);
+            for (int i = from; i < to; i++) {
+                lengths[i] = cipher.doFinal(encryptedData, i * modulusLength, modulusLength, buffer, i * plainLength);
+            }
+        });
+        int length = 0;
+        for (int i = 0; i < blocks; i++) {
+            if (length != i * plainLength) {
+                System.arraycopy(buffer, i * plainLength, buffer, length, lengths[i]);
+            }
+            length += lengths[i];
+        }
+        return Arrays.copyOf(buffer, length);
+    }
+
+    private static int oaepHashLength(String upperTransformation) {
+        if (upperTransformation.contains("SHA-512") || upperTransformation.contains("SHA512")) {
+            return 64;
+        }
+        if (upperTransformation.contains("SHA-384") || upperTransformation.contains("SHA384")) {
+            return 48;
+        }
+        if (upperTransformation.contains("SHA-256") || upperTransformation.contains("SHA256")) {
+            return 32;
+        }
+        if (upperTransformation.contains("SHA-224") || upperTransformation.contains("SHA224")) {
+            return 28;
+        }
+        return 20;
+    }
+
+    private static void runBlocks(int blocks, Executor executor, BlockTask blockTask) throws GeneralSecurityException {
+        if (Objects.isNull(executor) || blocks < PARALLEL_THRESHOLD) {
+            blockTask.run(0, blocks);
+            return;
+        }
+        int groups = Math.min(WORKERS, blocks);
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[groups];
+        for (int g = 0; g < groups; g++) {
+            int from = (int) ((long) blocks * g / groups);
+            int to = (int) ((long) blocks * (g + 1) / groups);
+            futures[g] = CompletableFuture.runAsync(() -> {
+                try {
+                    blockTask.run(from, to);
+                } catch (GeneralSecurityException e) {
+                    throw new CompletionException(e);
+                }
+            }, executor);
+        }
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof GeneralSecurityException) {
+                throw (GeneralSecurityException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    @FunctionalInterface
+    private interface BlockTask {
+
+        void run(int from, int to) throws GeneralSecurityException;
+    }
+}
@@ -0,0 +1,198 @@
+package per.nonlone.utils.encrypt;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import per.nonlone.utils.encode.Base64Utils;
+import per.nonlone.utils.encode.HexUtils;
+
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * RSA 密钥注册表
+ * <p>
+ * BASE64 字符串格式的密钥只解析一次，解析结果按去除 PEM 首尾行和空白后的文本缓存在有界缓存中；
+ * 也可以显式注册密钥，以编码后字节的 SHA-256 指纹作为密钥ID 查找
+ * </p>
+ */
+public abstract class RSAKeyRegistry {
+
+    /**
+     * 缓存密钥数量上限
+     */
+    public static final int MAX_CACHED_KEYS = 1024;
+
+    private static final String FINGERPRINT_ALGORITHM = "SHA-256";
+
+    /**
+     * PEM 首尾行，如 -----BEGIN PUBLIC KEY-----
+     */
+    private static final Pattern PEM_BOUNDARY = Pattern.compile("-----(BEGIN|END)[^-]*-----");
+
+    private static final Cache<String, PublicKey> PUBLIC_KEYS = CacheBuilder.newBuilder()
+            .maximumSize(MAX_CACHED_KEYS).expireAfterAccess(1, TimeUnit.HOURS).build();
+
+    private static final Cache<String, PrivateKey> PRIVATE_KEYS = CacheBuilder.newBuilder()
+            .maximumSize(MAX_CACHED_KEYS).expireAfterAccess(1, TimeUnit.HOURS).build();
+
+    /**
+     * 显式注册的密钥，按指纹索引
+     */
+    private static final Map<String, Key> REGISTERED_KEYS = new ConcurrentHashMap<>();
+
+    /**
+     * 解析公钥，同一密钥的换行、PEM 包装等不同写法共用一个缓存项
+     *
+     * @param publicKey 公钥(BASE64编码，可带 PEM 首尾行和空白)
+     * @return
+     * @throws GeneralSecurityException
+     */
+    public static PublicKey publicKey(String publicKey) throws GeneralSecurityException {
+        PublicKey key = PUBLIC_KEYS.getIfPresent(publicKey);
+        if (Objects.isNull(key)) {
+            String keyText = normalize(publicKey);
+            key = PUBLIC_KEYS.getIfPresent(keyText);
+            if (Objects.isNull(key)) {
+                X509EncodedKeySpec keySpec = new X509EncodedKeySpec(Base64Utils.decodeFromString(keyText));
+                key = KeyFactory.getInstance(RSAUtils.KEY_ALGORITHM).generatePublic(keySpec);
+                PUBLIC_KEYS.put(keyText, key);
+            }
+        }
+        return key;
+    }
+
+    /**
+     * 解析私钥，同一密钥的换行、PEM 包装等不同写法共用一个缓存项
+     *
+     * @param privateKey 私钥(BASE64编码，可带 PEM 首尾行和空白)
+     * @return
+     * @throws GeneralSecurityException
+     */
+    public static PrivateKey privateKey(String privateKey) throws GeneralSecurityException {
+        PrivateKey key = PRIVATE_KEYS.getIfPresent(privateKey);
+        if (Objects.isNull(key)) {
+            String keyText = normalize(privateKey);
+            key = PRIVATE_KEYS.getIfPresent(keyText);
+            if (Objects.isNull(key)) {
+                PKCS8EncodedKeySpec keySpec = new PKCS8EncodedKeySpec(Base64Utils.decodeFromString(keyText));
+                key = KeyFactory.getInstance(RSAUtils.KEY_ALGORITHM).generatePrivate(keySpec);
+                PRIVATE_KEYS.put(keyText, key);
+            }
+        }
+        return key;
+    }
+
+    /**
+     * 去除 PEM 首尾行和所有空白，得到纯 BASE64 文本
+     *
+     * @param keyText
+     * @return 无需处理时返回原字符串
+     */
+    static String normalize(String keyText) {
+        String text = keyText.indexOf('-') >= 0 ? PEM_BOUNDARY.matcher(keyText).replaceAll("") : keyText;
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                sb.append(c);
+            }
+        }
+        return sb.length() == text.length() ? text : sb.toString();
+    }
+
+    /**
+     * 密钥指纹，编码后字节的 SHA-256 十六进制小写
+     *
+     * @param key
+     * @return
+     * @throws GeneralSecurityException
+     */
+    public static String fingerprint(Key key) throws GeneralSecurityException {
+        return HexUtils.encode(MessageDigest.getInstance(FINGERPRINT_ALGORITHM).digest(key.getEncoded()));
+    }
+
+    /**
+     * 注册公钥
+     *
+     * @param publicKey 公钥(BASE64编码)
+     * @return 密钥ID
+     * @throws GeneralSecurityException
+     */
+    public static String registerPublicKey(String publicKey) throws GeneralSecurityException {
+        return register(publicKey(publicKey));
+    }
+
+    /**
+     * 注册私钥
+     *
+     * @param privateKey 私钥(BASE64编码)
+     * @return 密钥ID
+     * @throws GeneralSecurityException
+     */
+    public static String registerPrivateKey(String privateKey) throws GeneralSecurityException {
+        return register(privateKey(privateKey));
+    }
+
+    /**
+     * 注册密钥
+     *
+     * @param key
+     * @return 密钥ID
+     * @throws GeneralSecurityException
+     */
+    public static String register(Key key) throws GeneralSecurityException {
+        String keyId = fingerprint(key);
+        REGISTERED_KEYS.put(keyId, key);
+        return keyId;
+    }
+
+    /**
+     * 按密钥ID 取公钥
+     *
+     * @param keyId
+     * @return 未注册或不是公钥返回 null
+     */
+    public static PublicKey getPublicKey(String keyId) {
+        Key key = Objects.isNull(keyId) ? null : REGISTERED_KEYS.get(keyId);
+        return key instanceof PublicKey ? (PublicKey) key : null;
+    }
+
+    /**
+     * 按密钥ID 取私钥
+     *
+     * @param keyId
+     * @return 未注册或不是私钥返回 null
+     */
+    public static PrivateKey getPrivateKey(String keyId) {
+        Key key = Objects.isNull(keyId) ? null : REGISTERED_KEYS.get(keyId);
+        return key instanceof PrivateKey ? (PrivateKey) key : null;
+    }
+
+    /**
+     * 注销密钥
+     *
+     * @param keyId
+     */
+    public static void unregister(String keyId) {
+        REGISTERED_KEYS.remove(keyId);
+    }
+
+    /**
+     * 清空解析缓存，不影响已注册密钥
+     */
+    public static void invalidateKeys() {
+        PUBLIC_KEYS.invalidateAll();
+        PRIVATE_KEYS.invalidateAll();
+    }
+}
@@ -3,16 +3,12 @@ package per.nonlone.utils.encrypt;
 import per.nonlone.utils.encode.Base64Utils;
 
 import javax.crypto.BadPaddingException;
-import javax.crypto.Cipher;
 import javax.crypto.IllegalBlockSizeException;
 import javax.crypto.NoSuchPaddingException;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.security.*;
 import java.security.interfaces.RSAPrivateKey;
 import java.security.interfaces.RSAPublicKey;
-import java.security.spec.PKCS8EncodedKeySpec;
-import java.security.spec.X509EncodedKeySpec;
 
 /**
  * <p>
@@ -44,26 +40,34 @@ public abstract class RSAUtils {
     public static final String SIGNATURE_ALGORITHM = "MD5withRSA";
 
     /**
-     * RSA最大加密明文大小
+     * 默认密钥长度
      */
-    private static final int MAX_ENCRYPT_BLOCK = 117;
+    public static final int DEFAULT_KEY_SIZE = 1024;
 
     /**
-     * RSA最大解密密文大小
+     * <p>
+     * 生成密钥对(公钥和私钥)
+     * </p>
+     *
+     * @return
+     * @throws Exception
      */
-    private static final int MAX_DECRYPT_BLOCK = 128;
+    public static KeyPair getRSAKeyPair() throws Exception {
+        return getRSAKeyPair(DEFAULT_KEY_SIZE);
+    }
 
     /**
      * <p>
-     * 生成密钥对(公钥和私钥)
+     * 生成指定长度的密钥对(公钥和私钥)
      * </p>
      *
+     * @param keySize 密钥位数，建议不低于2048
      * @return
      * @throws Exception
      */
-    public static KeyPair getRSAKeyPair() throws Exception {
+    public static KeyPair getRSAKeyPair(int keySize) throws Exception {
         KeyPairGenerator keyPairGen = KeyPairGenerator.getInstance(KEY_ALGORITHM);
-        keyPairGen.initialize(1024);
+        keyPairGen.initialize(keySize);
         KeyPair keyPair = keyPairGen.generateKeyPair();
         RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
         RSAPrivateKey privateKey = (RSAPrivateKey) keyPair.getPrivate();
@@ -81,12 +85,8 @@ public abstract class RSAUtils {
      * @throws Exception
      */
     public static String sign(byte[] data, String privateKey) throws Exception {
-        byte[] keyBytes = Base64Utils.decodeFromString(privateKey);
-        PKCS8EncodedKeySpec pkcs8KeySpec = new PKCS8EncodedKeySpec(keyBytes);
-        KeyFactory keyFactory = KeyFactory.getInstance(KEY_ALGORITHM);
-        PrivateKey privateK = keyFactory.generatePrivate(pkcs8KeySpec);
-        Signature signature = Signature.getInstance(SIGNATURE_ALGORITHM);
-        signature.initSign(privateK);
+        Signature signature = CryptoInstances.signature(SIGNATURE_ALGORITHM);
+        signature.initSign(RSAKeyRegistry.privateKey(privateKey));
         signature.update(data);
         return Base64Utils.encodeFromByteArray(signature.sign());
     }
@@ -103,12 +103,8 @@ public abstract class RSAUtils {
      * @throws Exception
      */
     public static boolean verify(byte[] data, String publicKey, String sign) throws Exception {
-        byte[] keyBytes = Base64Utils.decodeFromString(publicKey);
-        X509EncodedKeySpec keySpec = new X509EncodedKeySpec(keyBytes);
-        KeyFactory keyFactory = KeyFactory.getInstance(KEY_ALGORITHM);
-        PublicKey publicK = keyFactory.generatePublic(keySpec);
-        Signature signature = Signature.getInstance(SIGNATURE_ALGORITHM);
-        signature.initVerify(publicK);
+        Signature signature = CryptoInstances.signature(SIGNATURE_ALGORITHM);
+        signature.initVerify(RSAKeyRegistry.publicKey(publicKey));
         signature.update(data);
         return signature.verify(Base64Utils.decodeFromString(sign));
     }
@@ -118,11 +114,7 @@ public abstract class RSAUtils {
     }
 
     public static byte[] decryptByPrivateKey(byte[] encryptedData, String privateKey) throws Exception {
-        byte[] keyBytes = Base64Utils.decodeFromString(privateKey);
-        PKCS8EncodedKeySpec pkcs8KeySpec = new PKCS8EncodedKeySpec(keyBytes);
-        KeyFactory keyFactory = KeyFactory.getInstance(KEY_ALGORITHM);
-        Key privateK = keyFactory.generatePrivate(pkcs8KeySpec);
-        return RSAUtils.decryptByPrivateKey(encryptedData, privateK);
+        return RSAUtils.decryptByPrivateKey(encryptedData, RSAKeyRegistry.privateKey(privateKey));
     }
 
     /**
@@ -139,32 +131,17 @@ public abstract class RSAUtils {
      * @throws BadPaddingException
      * @throws IllegalBlockSizeException
      * @throws IOException
-     * @throws Exception
      */
     public static byte[] decryptByPrivateKey(byte[] encryptedData, Key privateKey) throws NoSuchAlgorithmException,
             NoSuchPaddingException, InvalidKeyException, IllegalBlockSizeException, BadPaddingException, IOException {
-        KeyFactory keyFactory = KeyFactory.getInstance(KEY_ALGORITHM);
-        Cipher cipher = Cipher.getInstance(keyFactory.getAlgorithm());
-        cipher.init(Cipher.DECRYPT_MODE, privateKey);
-        int inputLen = encryptedData.length;
-        ByteArrayOutputStream out = new ByteArrayOutputStream();
-        int offSet = 0;
-        byte[] cache;
-        int i = 0;
-        // 对数据分段解密
-        while (inputLen - offSet > 0) {
-            if (inputLen - offSet > MAX_DECRYPT_BLOCK) {
-                cache = cipher.doFinal(encryptedData, offSet, MAX_DECRYPT_BLOCK);
-            } else {
-                cache = cipher.doFinal(encryptedData, offSet, inputLen - offSet);
-            }
-            out.write(cache, 0, cache.length);
-            i++;
-            offSet = i * MAX_DECRYPT_BLOCK;
+        try {
+            return RSABlockEngine.decrypt(encryptedData, privateKey, KEY_ALGORITHM, null);
+        } catch (NoSuchAlgorithmException | NoSuchPaddingException | InvalidKeyException | IllegalBlockSizeException | BadPaddingException e) {
+            throw e;
+        } catch (GeneralSecurityException e) {
+            // 保持原有异常声明，RSA/ECB/PKCS1Padding 解密不会出现其它异常
+            throw new IllegalStateException(e);
         }
-        byte[] decryptedData = out.toByteArray();
-        out.close();
-        return decryptedData;
     }
 
     /**
@@ -178,31 +155,6 @@ public abstract class RSAUtils {
      * @throws Exception
      */
     public static byte[] encryptByPublicKey(byte[] data, String publicKey) throws Exception {
-        byte[] keyBytes = Base64Utils.decodeFromString(publicKey);
-        X509EncodedKeySpec x509KeySpec = new X509EncodedKeySpec(keyBytes);
-        KeyFactory keyFactory = KeyFactory.getInstance(KEY_ALGORITHM);
-        Key publicK = keyFactory.generatePublic(x509KeySpec);
-        // 对数据加密
-        Cipher cipher = Cipher.getInstance(keyFactory.getAlgorithm());
-        cipher.init(Cipher.ENCRYPT_MODE, publicK);
-        int inputLen = data.length;
-        ByteArrayOutputStream out = new ByteArrayOutputStream();
-        int offSet = 0;
-        byte[] cache;
-        int i = 0;
-        // 对数据分段加密
-        while (inputLen - offSet > 0) {
-            if (inputLen - offSet > MAX_ENCRYPT_BLOCK) {
-                cache = cipher.doFinal(data, offSet, MAX_ENCRYPT_BLOCK);
-            } else {
-                cache = cipher.doFinal(data, offSet, inputLen - offSet);
-            }
-            out.write(cache, 0, cache.length);
-            i++;
-            offSet = i * MAX_ENCRYPT_BLOCK;
-        }
-        byte[] encryptedData = out.toByteArray();
-        out.close();
-        return encryptedData;
+        return RSABlockEngine.encrypt(data, RSAKeyRegistry.publicKey(publicKey), KEY_ALGORITHM, null);
     }
 }
\ No newline at end of file
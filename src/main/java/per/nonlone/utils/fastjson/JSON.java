@@ -4,14 +4,19 @@ import com.alibaba.fastjson.JSONException;
 import com.alibaba.fastjson.JSONObject;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.HashMap;
+import java.util.List;
+import java.util.ListIterator;
 import java.util.Map;
+import java.util.Objects;
 
 @Slf4j
 public abstract class JSON extends com.alibaba.fastjson.JSON {
 
     /**
      * 递归序列化JSON
+     * <p>
+     * 单次解析后原地展开内嵌的JSON字符串，直接绑定目标类型，不再经过中间字符串
+     * </p>
      *
      * @param data
      * @param classOfT
@@ -19,42 +24,143 @@ public abstract class JSON extends com.alibaba.fastjson.JSON {
      * @return
      */
     public static <T> T parseObjectRecurrence(String data, Class<T> classOfT) {
-        JSONObject jsonObject = (JSONObject) JSON.parse(data);
-        Map<String, Object> jsonMap = parseRecurrence(jsonObject);
-        return JSON.parseObject(JSON.toJSONString(jsonMap), classOfT);
+        JSONObject jsonObject = JSON.parseObject(data);
+        if (Objects.isNull(jsonObject)) {
+            return null;
+        }
+        unwrapObject(jsonObject);
+        return jsonObject.toJavaObject(classOfT);
     }
 
-    public static Map<String,Object> parseObjectRecurrence(String data) {
-        return parseRecurrence((JSONObject) JSON.parse(data));
+    public static Map<String, Object> parseObjectRecurrence(String data) {
+        JSONObject jsonObject = JSON.parseObject(data);
+        if (Objects.nonNull(jsonObject)) {
+            unwrapObject(jsonObject);
+        }
+        return jsonObject;
     }
 
-
     /**
-     * 递归尝试序列化JSON
+     * 原地展开对象中内嵌的JSON字符串
      *
      * @param jsonMap
-     * @return
      */
-    private static Map<String, Object> parseRecurrence(Map<String, Object> jsonMap) {
-        Map<String, Object> resultMap = new HashMap<>(jsonMap.size());
+    private static void unwrapObject(Map<String, Object> jsonMap) {
         for (Map.Entry<String, Object> entry : jsonMap.entrySet()) {
-            if (entry.getValue() instanceof String && ((String) entry.getValue()).startsWith("{")) {
-                // 尝试判断是否为JSON
-                try {
-                    JSONObject tryJSONObject = (JSONObject) JSON.parse((String) entry.getValue());
-                    Map<String, Object> tryJsonMap = parseRecurrence(tryJSONObject);
-                    resultMap.put(entry.getKey(), tryJsonMap);
-                } catch (JSONException jsone) {
-                    log.debug("json parse error {} key<{}> value<{}>", jsone.getMessage(), entry.getKey(), entry.getValue());
-                    // 回写原数据
-                    resultMap.put(entry.getKey(), entry.getValue());
-                }
-            } else {
-                resultMap.put(entry.getKey(), entry.getValue());
+            Object value = entry.getValue();
+            Object unwrapValue = unwrapValue(value);
+            if (unwrapValue != value) {
+                entry.setValue(unwrapValue);
+            }
+        }
+    }
+
+    /**
+     * 原地展开数组中内嵌的JSON字符串
+     *
+     * @param jsonList
+     */
+    private static void unwrapArray(List<Object> jsonList) {
+        ListIterator<Object> iterator = jsonList.listIterator();
+        while (iterator.hasNext()) {
+            Object value = iterator.next();
+            Object unwrapValue = unwrapValue(value);
+            if (unwrapValue != value) {
+                iterator.set(unwrapValue);
+            }
+        }
+    }
+
+    /**
+     * 展开单个值，字符串形如对象或数组时解析后继续展开
+     *
+     * @param value
+     * @return 展开后的值，无需展开时返回原值
+     */
+    @SuppressWarnings("unchecked")
+    private static Object unwrapValue(Object value) {
+        if (value instanceof String) {
+            String text = (String) value;
+            if (!isJsonStructure(text)) {
+                return value;
+            }
+            Object parsed;
+            try {
+                parsed = JSON.parse(text);
+            } catch (JSONException jsone) {
+                // 结构合法但存在非法字面量，回写原数据
+                log.debug("json parse error {} value<{}>", jsone.getMessage(), text);
+                return value;
             }
+            if (parsed instanceof Map || parsed instanceof List) {
+                unwrapValue(parsed);
+                return parsed;
+            }
+            return value;
+        } else if (value instanceof Map) {
+            unwrapObject((Map<String, Object>) value);
+        } else if (value instanceof List) {
+            unwrapArray((List<Object>) value);
         }
-        return resultMap;
+        return value;
     }
 
+    /**
+     * 无异常地快速判断字符串是否为JSON对象或数组结构，检查首尾括号以及字符串外括号的配对
+     *
+     * @param text
+     * @return
+     */
+    static boolean isJsonStructure(String text) {
+        int start = 0;
+        int end = text.length() - 1;
+        while (start <= end && Character.isWhitespace(text.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(text.charAt(end))) {
+            end--;
+        }
+        if (end <= start) {
+            return false;
+        }
+        char first = text.charAt(start);
+        char last = text.charAt(end);
+        if (!((first == '{' && last == '}') || (first == '[' && last == ']'))) {
+            return false;
+        }
+        int depth = 0;
+        boolean inString = false;
+        for (int i = start; i <= end; i++) {
+            char c = text.charAt(i);
+            if (inString) {
+                if (c == '\\') {
+                    i++;
+                } else if (c == '"') {
+                    inString = false;
+                }
+                continue;
+            }
+            switch (c) {
+                case '"':
+                    inString = true;
+                    break;
+                case '{':
+                case '[':
+                    depth++;
+                    break;
+                case '}':
+                case ']':
+                    depth--;
+                    // 结构提前闭合，说明不是单个JSON值
+                    if (depth < 0 || (depth == 0 && i != end)) {
+                        return false;
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        return depth == 0 && !inString;
+    }
 
 }
@@ -5,23 +5,105 @@ import per.nonlone.utils.CollectionUtils;
 import per.nonlone.utils.fastjson.annotattion.NoKeyFilter;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.HashMap;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
  * Fastjson Key 正则匹配处理过滤器
+ * <p>
+ * 构造时预编译全部正则并合并为一个整体表达式，每个正则对应一个捕获分组，一次匹配即可得到首个命中的处理器；
+ * 每个 (类, 属性) 是否忽略以及命中的处理器在首次解析后缓存，之后每个属性仅一次哈希查找
+ * </p>
  */
 @Slf4j
 public class RegExKeyFilter implements ValueFilter {
 
-    private static final Map<String, Pattern> regPatternMap = new HashMap<>();
+    /**
+     * 未命中处理器占位
+     */
+    private static final KeyValueHandler NO_HANDLER = value -> value;
+
+    /**
+     * Map Key 缓存上限，避免动态 Key 无限增长
+     */
+    private static final int MAX_NAME_CACHE_SIZE = 4096;
+
+    /**
+     * 无法合并的正则：反向引用合并后分组序号改变，命名分组合并后可能重名
+     */
+    private static final Pattern UNCOMBINABLE_PATTERN = Pattern.compile("\\\\[1-9]|\\\\k<|\\(\\?<[a-zA-Z]");
+
+    /**
+     * 按配置顺序预编译的正则
+     */
+    private final Pattern[] patterns;
+
+    /**
+     * 与正则顺序对应的处理器
+     */
+    private final KeyValueHandler[] handlers;
+
+    /**
+     * 全部正则合并后的表达式，无法合并或仅有一个正则时为空
+     */
+    private final Pattern combinedPattern;
+
+    /**
+     * 每个正则在合并表达式中的捕获分组序号
+     */
+    private final int[] branchGroups;
 
-    private final Map<String, KeyValueHandler> regKeyHandlerMap;
+    /**
+     * (类, 属性) -> 处理器
+     */
+    private final Map<PropertyKey, KeyValueHandler> propertyHandlerCache = new ConcurrentHashMap<>();
+
+    /**
+     * (Map 类, Key 名称) -> 处理器
+     */
+    private final Map<PropertyKey, KeyValueHandler> mapKeyHandlerCache = new ConcurrentHashMap<>();
 
     public RegExKeyFilter(Map<String, KeyValueHandler> regKeyHandlerMap) {
-        this.regKeyHandlerMap = regKeyHandlerMap;
+        List<Pattern> patternList = new ArrayList<>();
+        List<KeyValueHandler> handlerList = new ArrayList<>();
+        List<Integer> branchGroupList = new ArrayList<>();
+        // 每个分支为从起点向后查找的前瞻，按配置顺序尝试，与逐个 find() 的首个命中一致
+        StringBuilder combined = new StringBuilder("\\A(?:");
+        boolean combinable = true;
+        int group = 1;
+        if (!CollectionUtils.isEmpty(regKeyHandlerMap)) {
+            for (Map.Entry<String, KeyValueHandler> entry : regKeyHandlerMap.entrySet()) {
+                String reg = entry.getKey();
+                Pattern pattern = Pattern.compile(reg);
+                patternList.add(pattern);
+                handlerList.add(entry.getValue());
+                if (UNCOMBINABLE_PATTERN.matcher(reg).find()) {
+                    combinable = false;
+                }
+                if (branchGroupList.size() > 0) {
+                    combined.append('|');
+                }
+                combined.append("(?=[\\s\\S]*?(").append(reg).append("))");
+                branchGroupList.add(group);
+                group += 1 + pattern.matcher("").groupCount();
+            }
+        }
+        combined.append(')');
+        this.patterns = patternList.toArray(new Pattern[0]);
+        this.handlers = handlerList.toArray(new KeyValueHandler[0]);
+        if (combinable && patterns.length > 1) {
+            this.combinedPattern = Pattern.compile(combined.toString());
+            this.branchGroups = branchGroupList.stream().mapToInt(Integer::intValue).toArray();
+        } else {
+            this.combinedPattern = null;
+            this.branchGroups = null;
+        }
     }
 
     /**
@@ -34,49 +116,118 @@ public class RegExKeyFilter implements ValueFilter {
 
     @Override
     public Object process(Object object, String name, Object value) {
-        Class<?> objectClass = object.getClass();
-        // 非处理器处理
-        if (objectClass.isAnnotationPresent(NoKeyFilter.class)) {
+        if (patterns.length == 0 || Objects.isNull(name)) {
             return value;
         }
-        // 检查成员变量
-        boolean checkField = false;
-        if (!Map.class.isAssignableFrom(object.getClass())) {
-            while (objectClass != Object.class) {
-                try {
-                    if (object.getClass().getDeclaredField(name).isAnnotationPresent(NoKeyFilter.class)) {
-                        checkField = true;
-                    }
-                } catch (NoSuchFieldException nsfe) {
-                    log.error(String.format("object field<%s> not  exist", name), nsfe);
+        Class<?> objectClass = object.getClass();
+        PropertyKey propertyKey = new PropertyKey(objectClass, name);
+        KeyValueHandler keyValueHandler;
+        if (object instanceof Map) {
+            keyValueHandler = mapKeyHandlerCache.get(propertyKey);
+            if (Objects.isNull(keyValueHandler)) {
+                // 非处理器处理
+                keyValueHandler = objectClass.isAnnotationPresent(NoKeyFilter.class) ? NO_HANDLER : matchHandler(name);
+                if (mapKeyHandlerCache.size() < MAX_NAME_CACHE_SIZE) {
+                    mapKeyHandlerCache.put(propertyKey, keyValueHandler);
                 }
-                // 跳到父级
-                objectClass = objectClass.getSuperclass();
             }
-            // 非Map映射的尝试判断是否在存在成员变量
-            if(checkField) {
-                return value;
+        } else {
+            keyValueHandler = propertyHandlerCache.get(propertyKey);
+            if (Objects.isNull(keyValueHandler)) {
+                keyValueHandler = isNoKeyFilter(objectClass, name) ? NO_HANDLER : matchHandler(name);
+                propertyHandlerCache.put(propertyKey, keyValueHandler);
             }
         }
-        if (!CollectionUtils.isEmpty(regKeyHandlerMap)) {
-            for (Map.Entry<String, KeyValueHandler> entry : regKeyHandlerMap.entrySet()) {
-                String reg = entry.getKey();
-                KeyValueHandler keyValueHandler = entry.getValue();
-                Pattern pattern;
-                if (regPatternMap.containsKey(reg)) {
-                    pattern = regPatternMap.get(reg);
-                } else {
-                    pattern = Pattern.compile(reg);
-                    regPatternMap.put(reg, pattern);
+        if (keyValueHandler == NO_HANDLER) {
+            return value;
+        }
+        // RegExKeyFilter 处理
+        return keyValueHandler.doProcess(value);
+    }
+
+    /**
+     * 判断类或成员变量是否声明忽略
+     *
+     * @param objectClass
+     * @param name
+     * @return
+     */
+    private static boolean isNoKeyFilter(Class<?> objectClass, String name) {
+        if (objectClass.isAnnotationPresent(NoKeyFilter.class)) {
+            return true;
+        }
+        for (Class<?> searchType = objectClass; searchType != Object.class && Objects.nonNull(searchType); searchType = searchType.getSuperclass()) {
+            for (Field field : searchType.getDeclaredFields()) {
+                if (field.getName().equals(name)) {
+                    return field.isAnnotationPresent(NoKeyFilter.class);
                 }
-                Matcher matcher = pattern.matcher(name);
-                if (matcher.find()) {
-                    // RegExKeyFilter 处理
-                    return keyValueHandler.doProcess(value);
+            }
+        }
+        // getter 派生属性无对应成员变量
+        log.debug("object field<{}> not exist class<{}>", name, objectClass.getName());
+        return false;
+    }
+
+    /**
+     * 按配置顺序匹配首个命中的处理器
+     *
+     * @param name
+     * @return
+     */
+    private KeyValueHandler matchHandler(String name) {
+        if (Objects.nonNull(combinedPattern)) {
+            Matcher matcher = combinedPattern.matcher(name);
+            if (matcher.lookingAt()) {
+                // 命中分支的分组有值，其余分支分组为 -1
+                for (int i = 0; i < branchGroups.length; i++) {
+                    if (matcher.start(branchGroups[i]) >= 0) {
+                        return handlers[i];
+                    }
                 }
             }
+            return NO_HANDLER;
+        }
+        for (int i = 0; i < patterns.length; i++) {
+            if (patterns[i].matcher(name).find()) {
+                return handlers[i];
+            }
+        }
+        return NO_HANDLER;
+    }
+
+    /**
+     * 缓存键，(类, 属性名)
+     */
+    private static final class PropertyKey {
+
+        private final Class<?> type;
+
+        private final String name;
+
+        private final int hash;
+
+        private PropertyKey(Class<?> type, String name) {
+            this.type = type;
+            this.name = name;
+            this.hash = 31 * type.hashCode() + name.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof PropertyKey)) {
+                return false;
+            }
+            PropertyKey other = (PropertyKey) obj;
+            return type == other.type && name.equals(other.name);
         }
-        return value;
     }
 
-}
\ No newline at end of file
+}
@@ -3,29 +3,69 @@ package per.nonlone.utils.fastjson.serializer;
 import com.alibaba.fastjson.serializer.JSONSerializer;
 import com.alibaba.fastjson.serializer.ObjectSerializer;
 import com.alibaba.fastjson.serializer.SerializeWriter;
+import com.alibaba.fastjson.serializer.SerializerFeature;
+import per.nonlone.utils.datetime.CachedDateFormatter;
 import per.nonlone.utils.datetime.DateTimeStyle;
 import per.nonlone.utils.datetime.DateUtils;
 
 import java.io.IOException;
 import java.lang.reflect.Type;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Date;
+import java.util.Objects;
 
+/**
+ * 日期序列化，支持 Date、Instant、LocalDateTime、LocalDate
+ * <p>
+ * 常用格式通过 {@link CachedDateFormatter} 直接写入输出缓冲，其余格式使用 {@link DateUtils#format(Date, String)}
+ * </p>
+ */
 public class DateSerializer implements ObjectSerializer {
 
     public final static DateSerializer instance = new DateSerializer(DateTimeStyle.DEFAULT_YYYY_MM_DD_HH_MM_SS);
 
     private String parttern;
 
+    /**
+     * 固定格式写出器，不支持的格式为空
+     */
+    private final CachedDateFormatter formatter;
+
     public DateSerializer(String parttern) {
         this.parttern = parttern;
+        this.formatter = CachedDateFormatter.getInstance(parttern);
     }
 
     @Override
     public void write(JSONSerializer serializer, Object object, Object fieldName, Type fieldType, int features) throws IOException {
         SerializeWriter out = serializer.out;
+        if (Objects.isNull(formatter)) {
+            if (object instanceof Date) {
+                out.writeString(DateUtils.format((Date) object, parttern));
+            } else if (object instanceof Instant) {
+                out.writeString(DateUtils.format(Date.from((Instant) object), parttern));
+            }
+            return;
+        }
+        char[] buffer = CachedDateFormatter.threadLocalBuffer();
+        int length;
         if (object instanceof Date) {
-            out.writeString(DateUtils.format((Date) object, parttern));
+            length = formatter.format(((Date) object).getTime(), buffer, 0);
+        } else if (object instanceof Instant) {
+            length = formatter.format(((Instant) object).toEpochMilli(), buffer, 0);
+        } else if (object instanceof LocalDateTime) {
+            length = formatter.format((LocalDateTime) object, buffer, 0);
+        } else if (object instanceof LocalDate) {
+            length = formatter.format((LocalDate) object, buffer, 0);
+        } else {
+            return;
         }
-        return;
+        // 日期字符无需转义，引号与 writeString 保持一致
+        char quote = out.isEnabled(SerializerFeature.UseSingleQuotes) ? '\'' : '"';
+        out.write(quote);
+        out.write(buffer, 0, length);
+        out.write(quote);
     }
 }
@@ -0,0 +1,154 @@
+package per.nonlone.utils.hash;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * 一致性哈希环
+ * <p>
+ * 每个节点按 toString() + "#" + 序号 以 {@link XXHash64} 生成若干虚拟节点，
+ * 环以排序后的 long[] 保存，路由为一次二分查找，不产生对象分配。
+ * 增删节点时整体重建后替换，读写互不阻塞；节点的 toString() 需稳定且互不相同
+ * </p>
+ *
+ * @param <T>
+ */
+public class ConsistentHashRing<T> {
+
+    /**
+     * 默认每个节点的虚拟节点数
+     */
+    public static final int DEFAULT_VIRTUAL_NODES = 160;
+
+    private final int virtualNodes;
+
+    private volatile Ring<T> ring;
+
+    public ConsistentHashRing(Collection<T> nodes) {
+        this(nodes, DEFAULT_VIRTUAL_NODES);
+    }
+
+    public ConsistentHashRing(Collection<T> nodes, int virtualNodes) {
+        if (virtualNodes <= 0) {
+            throw new IllegalArgumentException("virtualNodes must be greater than 0");
+        }
+        this.virtualNodes = virtualNodes;
+        this.ring = build(new ArrayList<>(nodes));
+    }
+
+    /**
+     * 增加节点，已存在时忽略
+     *
+     * @param node
+     */
+    public synchronized void add(T node) {
+        if (!ring.nodes.contains(node)) {
+            List<T> nodes = new ArrayList<>(ring.nodes);
+            nodes.add(node);
+            ring = build(nodes);
+        }
+    }
+
+    /**
+     * 移除节点
+     *
+     * @param node
+     */
+    public synchronized void remove(T node) {
+        if (ring.nodes.contains(node)) {
+            List<T> nodes = new ArrayList<>(ring.nodes);
+            nodes.remove(node);
+            ring = build(nodes);
+        }
+    }
+
+    /**
+     * 当前节点
+     *
+     * @return 只读列表
+     */
+    public List<T> getNodes() {
+        return ring.nodes;
+    }
+
+    /**
+     * 按键路由
+     *
+     * @param key
+     * @return 没有节点时返回 null
+     */
+    public T get(CharSequence key) {
+        return get(XXHash64.hash(key));
+    }
+
+    public T get(byte[] key) {
+        return get(XXHash64.hash(key));
+    }
+
+    /**
+     * 按散列值路由，取环上顺时针第一个虚拟节点
+     *
+     * @param hash
+     * @return 没有节点时返回 null
+     */
+    public T get(long hash) {
+        Ring<T> current = ring;
+        long[] points = current.points;
+        if (points.length == 0) {
+            return null;
+        }
+        int index = Arrays.binarySearch(points, hash);
+        if (index < 0) {
+            index = -index - 1;
+            if (index == points.length) {
+                index = 0;
+            }
+        }
+        return current.owners[index];
+    }
+
+    @SuppressWarnings("unchecked")
+    private Ring<T> build(List<T> nodes) {
+        TreeMap<Long, T> pointMap = new TreeMap<>();
+        for (T node : nodes) {
+            String name = String.valueOf(node);
+            for (int i = 0; i < virtualNodes; i++) {
+                long point = XXHash64.hash(name + "#" + i);
+                T owner = pointMap.get(point);
+                // 冲突时取名称较小者，结果与节点加入顺序无关
+                if (Objects.isNull(owner) || name.compareTo(String.valueOf(owner)) < 0) {
+                    pointMap.put(point, node);
+                }
+            }
+        }
+        long[] points = new long[pointMap.size()];
+        T[] owners = (T[]) new Object[pointMap.size()];
+        int i = 0;
+        for (Map.Entry<Long, T> entry : pointMap.entrySet()) {
+            points[i] = entry.getKey();
+            owners[i++] = entry.getValue();
+        }
+        return new Ring<>(Collections.unmodifiableList(nodes), points, owners);
+    }
+
+    private static class Ring<T> {
+
+        private final List<T> nodes;
+
+        private final long[] points;
+
+        private final T[] owners;
+
+        private Ring(List<T> nodes, long[] points, T[] owners) {
+            this.nodes = nodes;
+            this.points = points;
+            this.owners = owners;
+        }
+    }
+}
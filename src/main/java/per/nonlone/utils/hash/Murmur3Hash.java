@@ -0,0 +1,93 @@
+package per.nonlone.utils.hash;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * MurmurHash3 x64 128位非加密散列，基于 Guava 实现
+ * <p>
+ * hash64 取 128 位结果的前 8 字节（小端）；
+ * 字符序列直接按 UTF-16 码元参与计算，不做字符集编码。
+ * 不可用于安全相关用途
+ * </p>
+ */
+public abstract class Murmur3Hash {
+
+    private static final HashFunction MURMUR3_128 = Hashing.murmur3_128();
+
+    public static byte[] hash128(byte[] input) {
+        return MURMUR3_128.hashBytes(input).asBytes();
+    }
+
+    public static long hash64(byte[] input) {
+        return MURMUR3_128.hashBytes(input).asLong();
+    }
+
+    public static long hash64(byte[] input, int offset, int length, int seed) {
+        return function(seed).hashBytes(input, offset, length).asLong();
+    }
+
+    /**
+     * ByteBuffer 剩余内容散列，支持直接缓冲，不改变 position
+     *
+     * @param input
+     * @return
+     */
+    public static byte[] hash128(ByteBuffer input) {
+        return MURMUR3_128.newHasher().putBytes(input.duplicate()).hash().asBytes();
+    }
+
+    public static long hash64(ByteBuffer input) {
+        return MURMUR3_128.newHasher().putBytes(input.duplicate()).hash().asLong();
+    }
+
+    public static byte[] hash128(CharSequence input) {
+        return MURMUR3_128.hashUnencodedChars(input).asBytes();
+    }
+
+    public static long hash64(CharSequence input) {
+        return MURMUR3_128.hashUnencodedChars(input).asLong();
+    }
+
+    public static long hash64(CharSequence input, int seed) {
+        return function(seed).hashUnencodedChars(input).asLong();
+    }
+
+    /**
+     * 输入流散列，读到结束，不关闭输入流
+     *
+     * @param input
+     * @param seed
+     * @return
+     * @throws IOException
+     */
+    public static HashCode hash(InputStream input, int seed) throws IOException {
+        Hasher hasher = function(seed).newHasher();
+        byte[] bytes = new byte[8192];
+        int read;
+        while ((read = input.read(bytes)) >= 0) {
+            hasher.putBytes(bytes, 0, read);
+        }
+        return hasher.hash();
+    }
+
+    /**
+     * 流式计算实例，非线程安全
+     *
+     * @param seed
+     * @return
+     */
+    public static Hasher newHasher(int seed) {
+        return function(seed).newHasher();
+    }
+
+    private static HashFunction function(int seed) {
+        return seed == 0 ? MURMUR3_128 : Hashing.murmur3_128(seed);
+    }
+}
@@ -0,0 +1,347 @@
+package per.nonlone.utils.hash;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * xxHash64 非加密散列
+ * <p>
+ * 与 xxHash 参考实现 XXH64 结果一致，按小端读取 8 字节分组；
+ * 字符序列直接按 UTF-16LE 码元参与计算，不做字符集编码，结果等于对其 UTF-16LE 字节计算。
+ * 适用于缓存键、分片路由等场景，不可用于安全相关用途
+ * </p>
+ */
+public final class XXHash64 {
+
+    public static final long DEFAULT_SEED = 0L;
+
+    private static final long P1 = 0x9E3779B185EBCA87L;
+
+    private static final long P2 = 0xC2B2AE3D27D4EB4FL;
+
+    private static final long P3 = 0x165667B19E3779F9L;
+
+    private static final long P4 = 0x85EBCA77C2B2AE63L;
+
+    private static final long P5 = 0x27D4EB2F165667C5L;
+
+    private static final int STRIPE = 32;
+
+    private final long seed;
+
+    private final long[] accumulators = new long[4];
+
+    private final byte[] buffer = new byte[STRIPE];
+
+    private int bufferSize;
+
+    private long totalLength;
+
+    /**
+     * 流式计算实例，非线程安全
+     *
+     * @param seed
+     */
+    public XXHash64(long seed) {
+        this.seed = seed;
+        reset();
+    }
+
+    public XXHash64() {
+        this(DEFAULT_SEED);
+    }
+
+    public static long hash(byte[] input) {
+        return hash(input, 0, input.length, DEFAULT_SEED);
+    }
+
+    /**
+     * 字节数组区间散列
+     *
+     * @param input
+     * @param offset
+     * @param length
+     * @param seed
+     * @return
+     */
+    public static long hash(byte[] input, int offset, int length, long seed) {
+        return hash(ByteArrayReader.INSTANCE, input, offset, length, seed);
+    }
+
+    public static long hash(ByteBuffer input) {
+        return hash(input, input.position(), input.remaining(), DEFAULT_SEED);
+    }
+
+    /**
+     * ByteBuffer 区间散列，支持直接缓冲，不改变 position
+     *
+     * @param input
+     * @param index  绝对下标
+     * @param length
+     * @param seed
+     * @return
+     */
+    public static long hash(ByteBuffer input, int index, int length, long seed) {
+        if (input.hasArray()) {
+            return hash(input.array(), input.arrayOffset() + index, length, seed);
+        }
+        return hash(ByteBufferReader.INSTANCE, input, index, length, seed);
+    }
+
+    public static long hash(CharSequence input) {
+        return hash(input, DEFAULT_SEED);
+    }
+
+    /**
+     * 字符序列散列，等于对 UTF-16LE 字节散列
+     *
+     * @param input
+     * @param seed
+     * @return
+     */
+    public static long hash(CharSequence input, long seed) {
+        return hash(CharSequenceReader.INSTANCE, input, 0, input.length() << 1, seed);
+    }
+
+    /**
+     * 输入流散列，读到结束，不关闭输入流
+     *
+     * @param input
+     * @param seed
+     * @return
+     * @throws IOException
+     */
+    public static long hash(InputStream input, long seed) throws IOException {
+        XXHash64 xxHash64 = new XXHash64(seed);
+        byte[] bytes = new byte[8192];
+        int read;
+        while ((read = input.read(bytes)) >= 0) {
+            xxHash64.update(bytes, 0, read);
+        }
+        return xxHash64.getValue();
+    }
+
+    /**
+     * 追加数据
+     *
+     * @param input
+     * @param offset
+     * @param length
+     */
+    public void update(byte[] input, int offset, int length) {
+        totalLength += length;
+        int end = offset + length;
+        if (bufferSize > 0) {
+            int fill = Math.min(STRIPE - bufferSize, length);
+            System.arraycopy(input, offset, buffer, bufferSize, fill);
+            bufferSize += fill;
+            offset += fill;
+            if (bufferSize < STRIPE) {
+                return;
+            }
+            stripe(buffer, 0);
+            bufferSize = 0;
+        }
+        for (; offset <= end - STRIPE; offset += STRIPE) {
+            stripe(input, offset);
+        }
+        bufferSize = end - offset;
+        System.arraycopy(input, offset, buffer, 0, bufferSize);
+    }
+
+    public void update(byte[] input) {
+        update(input, 0, input.length);
+    }
+
+    /**
+     * 当前散列值，不影响后续追加
+     *
+     * @return
+     */
+    public long getValue() {
+        long h;
+        if (totalLength >= STRIPE) {
+            h = converge(accumulators[0], accumulators[1], accumulators[2], accumulators[3]);
+        } else {
+            h = seed + P5;
+        }
+        h += totalLength;
+        return finish(ByteArrayReader.INSTANCE, buffer, 0, bufferSize, h);
+    }
+
+    /**
+     * 重置为初始状态
+     */
+    public void reset() {
+        accumulators[0] = seed + P1 + P2;
+        accumulators[1] = seed + P2;
+        accumulators[2] = seed;
+        accumulators[3] = seed - P1;
+        bufferSize = 0;
+        totalLength = 0;
+    }
+
+    private void stripe(byte[] input, int offset) {
+        accumulators[0] = round(accumulators[0], ByteArrayReader.INSTANCE.getLong(input, offset));
+        accumulators[1] = round(accumulators[1], ByteArrayReader.INSTANCE.getLong(input, offset + 8));
+        accumulators[2] = round(accumulators[2], ByteArrayReader.INSTANCE.getLong(input, offset + 16));
+        accumulators[3] = round(accumulators[3], ByteArrayReader.INSTANCE.getLong(input, offset + 24));
+    }
+
+    private static <T> long hash(Reader<T> reader, T input, int offset, int length, long seed) {
+        int end = offset + length;
+        long h;
+        if (length >= STRIPE) {
+            long v1 = seed + P1 + P2;
+            long v2 = seed + P2;
+            long v3 = seed;
+            long v4 = seed - P1;
+            int limit = end - STRIPE;
+            do {
+                v1 = round(v1, reader.getLong(input, offset));
+                v2 = round(v2, reader.getLong(input, offset + 8));
+                v3 = round(v3, reader.getLong(input, offset + 16));
+                v4 = round(v4, reader.getLong(input, offset + 24));
+                offset += STRIPE;
+            } while (offset <= limit);
+            h = converge(v1, v2, v3, v4);
+        } else {
+            h = seed + P5;
+        }
+        h += length;
+        return finish(reader, input, offset, end, h);
+    }
+
+    private static <T> long finish(Reader<T> reader, T input, int offset, int end, long h) {
+        for (; offset <= end - 8; offset += 8) {
+            h ^= round(0, reader.getLong(input, offset));
+            h = Long.rotateLeft(h, 27) * P1 + P4;
+        }
+        if (offset <= end - 4) {
+            h ^= (reader.getInt(input, offset) & 0xFFFFFFFFL) * P1;
+            h = Long.rotateLeft(h, 23) * P2 + P3;
+            offset += 4;
+        }
+        for (; offset < end; offset++) {
+            h ^= reader.getByte(input, offset) * P5;
+            h = Long.rotateLeft(h, 11) * P1;
+        }
+        h ^= h >>> 33;
+        h *= P2;
+        h ^= h >>> 29;
+        h *= P3;
+        h ^= h >>> 32;
+        return h;
+    }
+
+    private static long converge(long v1, long v2, long v3, long v4) {
+        long h = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7) + Long.rotateLeft(v3, 12) + Long.rotateLeft(v4, 18);
+        h = merge(h, v1);
+        h = merge(h, v2);
+        h = merge(h, v3);
+        return merge(h, v4);
+    }
+
+    private static long round(long acc, long input) {
+        acc += input * P2;
+        acc = Long.rotateLeft(acc, 31);
+        return acc * P1;
+    }
+
+    private static long merge(long acc, long value) {
+        acc ^= round(0, value);
+        return acc * P1 + P4;
+    }
+
+    /**
+     * 小端读取，下标均为字节下标
+     */
+    private interface Reader<T> {
+
+        long getLong(T input, int index);
+
+        int getInt(T input, int index);
+
+        int getByte(T input, int index);
+    }
+
+    private static final class ByteArrayReader implements Reader<byte[]> {
+
+        private static final ByteArrayReader INSTANCE = new ByteArrayReader();
+
+        @Override
+        public long getLong(byte[] input, int index) {
+            return (input[index] & 0xFFL)
+                    | (input[index + 1] & 0xFFL) << 8
+                    | (input[index + 2] & 0xFFL) << 16
+                    | (input[index + 3] & 0xFFL) << 24
+                    | (input[index + 4] & 0xFFL) << 32
+                    | (input[index + 5] & 0xFFL) << 40
+                    | (input[index + 6] & 0xFFL) << 48
+                    | (input[index + 7] & 0xFFL) << 56;
+        }
+
+        @Override
+        public int getInt(byte[] input, int index) {
+            return (input[index] & 0xFF)
+                    | (input[index + 1] & 0xFF) << 8
+                    | (input[index + 2] & 0xFF) << 16
+                    | (input[index + 3] & 0xFF) << 24;
+        }
+
+        @Override
+        public int getByte(byte[] input, int index) {
+            return input[index] & 0xFF;
+        }
+    }
+
+    private static final class ByteBufferReader implements Reader<ByteBuffer> {
+
+        private static final ByteBufferReader INSTANCE = new ByteBufferReader();
+
+        @Override
+        public long getLong(ByteBuffer input, int index) {
+            long value = input.getLong(index);
+            return input.order() == ByteOrder.LITTLE_ENDIAN ? value : Long.reverseBytes(value);
+        }
+
+        @Override
+        public int getInt(ByteBuffer input, int index) {
+            int value = input.getInt(index);
+            return input.order() == ByteOrder.LITTLE_ENDIAN ? value : Integer.reverseBytes(value);
+        }
+
+        @Override
+        public int getByte(ByteBuffer input, int index) {
+            return input.get(index) & 0xFF;
+        }
+    }
+
+    private static final class CharSequenceReader implements Reader<CharSequence> {
+
+        private static final CharSequenceReader INSTANCE = new CharSequenceReader();
+
+        @Override
+        public long getLong(CharSequence input, int index) {
+            int i = index >> 1;
+            return (long) input.charAt(i)
+                    | (long) input.charAt(i + 1) << 16
+                    | (long) input.charAt(i + 2) << 32
+                    | (long) input.charAt(i + 3) << 48;
+        }
+
+        @Override
+        public int getInt(CharSequence input, int index) {
+            int i = index >> 1;
+            return input.charAt(i) | input.charAt(i + 1) << 16;
+        }
+
+        @Override
+        public int getByte(CharSequence input, int index) {
+            char c = input.charAt(index >> 1);
+            return (index & 1) == 0 ? c & 0xFF : c >>> 8;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package per.nonlone.utils.idcard;
+
+import per.nonlone.utils.datetime.AgeCalculator;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 身份证批量处理
+ * <p>
+ * 对一列号码一次完成校验、15位转18位、出生日期、周岁、性别和地区编码解析，结果按列返回。
+ * 每个分片复用一个 {@link IdCardInfo} 和转换缓冲，当天日期和周岁阈值在整批开始时确定。
+ * 仅处理大陆15/18位号码，港澳台号码视为非法
+ * </p>
+ */
+public abstract class IdCardBatch {
+
+    /**
+     * 并行拆分阈值
+     */
+    public static final int DEFAULT_SPLIT_THRESHOLD = 8192;
+
+    /**
+     * 串行处理
+     *
+     * @param idCards
+     * @return
+     */
+    public static IdCardColumns process(List<? extends CharSequence> idCards) {
+        return process(idCards.toArray(new CharSequence[0]), null);
+    }
+
+    /**
+     * 串行处理
+     *
+     * @param idCards
+     * @return
+     */
+    public static IdCardColumns process(CharSequence[] idCards) {
+        return process(idCards, null);
+    }
+
+    /**
+     * 处理一列号码
+     *
+     * @param idCards
+     * @param parallel 是否使用 ForkJoinPool.commonPool() 并行处理
+     * @return
+     */
+    public static IdCardColumns process(CharSequence[] idCards, boolean parallel) {
+        return process(idCards, parallel ? ForkJoinPool.commonPool() : null);
+    }
+
+    /**
+     * 处理一列号码
+     *
+     * @param idCards
+     * @param forkJoinPool 并行线程池，为空时在当前线程串行处理
+     * @return
+     */
+    public static IdCardColumns process(CharSequence[] idCards, ForkJoinPool forkJoinPool) {
+        IdCardColumns columns = new IdCardColumns(idCards.length);
+        AgeCalculator ageCalculator = AgeCalculator.getDefaultInstance();
+        if (Objects.isNull(forkJoinPool) || idCards.length <= DEFAULT_SPLIT_THRESHOLD) {
+            processRange(idCards, columns, 0, idCards.length, ageCalculator);
+        } else {
+            forkJoinPool.invoke(new ProcessAction(idCards, columns, 0, idCards.length, ageCalculator));
+        }
+        return columns;
+    }
+
+    private static void processRange(CharSequence[] idCards, IdCardColumns columns, int from, int to, AgeCalculator ageCalculator) {
+        IdCardInfo info = new IdCardInfo();
+        char[] buffer = new char[IdCardValidator.CHINA_ID_MAX_LENGTH];
+        for (int i = from; i < to; i++) {
+            IdCardValidator.validate(idCards[i], info, ageCalculator.getTodayEpochDay());
+            columns.set(i, idCards[i], info, buffer, ageCalculator);
+        }
+    }
+
+    private static class ProcessAction extends RecursiveAction {
+
+        private final CharSequence[] idCards;
+
+        private final IdCardColumns columns;
+
+        private final int from;
+
+        private final int to;
+
+        private final AgeCalculator ageCalculator;
+
+        private ProcessAction(CharSequence[] idCards, IdCardColumns columns, int from, int to, AgeCalculator ageCalculator) {
+            this.idCards = idCards;
+            this.columns = columns;
+            this.from = from;
+            this.to = to;
+            this.ageCalculator = ageCalculator;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= DEFAULT_SPLIT_THRESHOLD) {
+                processRange(idCards, columns, from, to, ageCalculator);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ProcessAction(idCards, columns, from, middle, ageCalculator),
+                    new ProcessAction(idCards, columns, middle, to, ageCalculator));
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package per.nonlone.utils.idcard;
+
+import lombok.Getter;
+import per.nonlone.utils.datetime.AgeCalculator;
+
+/**
+ * 身份证批量处理的列式结果
+ * <p>
+ * 每列与输入等长，下标一一对应；非法号码的出生日期列为 {@link IdCardValidator#INVALID_EPOCH_DAY}，
+ * 其余数值列为 -1，字符串列为 null
+ * </p>
+ */
+@Getter
+public class IdCardColumns {
+
+    /**
+     * 行数
+     */
+    private final int size;
+
+    /**
+     * 校验结果
+     */
+    private final IdCardStatus[] status;
+
+    /**
+     * 是否合法
+     */
+    private final boolean[] valid;
+
+    /**
+     * 18位号码，末位大写
+     */
+    private final String[] idCard18;
+
+    /**
+     * 出生日期纪元日，非法为 {@link IdCardValidator#INVALID_EPOCH_DAY}
+     */
+    private final int[] birthEpochDay;
+
+    /**
+     * 周岁
+     */
+    private final int[] age;
+
+    /**
+     * 性别，1 - 男，0 - 女，-1 - 非法
+     */
+    private final byte[] gender;
+
+    /**
+     * 省级编码
+     */
+    private final int[] provinceCode;
+
+    /**
+     * 市级编码
+     */
+    private final int[] cityCode;
+
+    IdCardColumns(int size) {
+        this.size = size;
+        this.status = new IdCardStatus[size];
+        this.valid = new boolean[size];
+        this.idCard18 = new String[size];
+        this.birthEpochDay = new int[size];
+        this.age = new int[size];
+        this.gender = new byte[size];
+        this.provinceCode = new int[size];
+        this.cityCode = new int[size];
+    }
+
+    /**
+     * 合法行数
+     *
+     * @return
+     */
+    public int getValidCount() {
+        int count = 0;
+        for (boolean value : valid) {
+            if (value) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    void set(int index, CharSequence source, IdCardInfo info, char[] buffer, AgeCalculator ageCalculator) {
+        IdCardStatus idCardStatus = info.getStatus();
+        status[index] = idCardStatus;
+        if (!idCardStatus.isValid()) {
+            // -1 是合法纪元日 1969-12-31
+            birthEpochDay[index] = IdCardValidator.INVALID_EPOCH_DAY;
+            age[index] = -1;
+            gender[index] = -1;
+            provinceCode[index] = -1;
+            cityCode[index] = -1;
+            return;
+        }
+        valid[index] = true;
+        IdCardValidator.writeIdCard18(source, info, buffer, 0);
+        idCard18[index] = sameChars(source, buffer) ? source.toString() : new String(buffer, 0, IdCardValidator.CHINA_ID_MAX_LENGTH);
+        birthEpochDay[index] = info.getBirthEpochDay();
+        age[index] = ageCalculator.age(info.getBirthEpochDay());
+        gender[index] = (byte) (info.isMale() ? 1 : 0);
+        provinceCode[index] = info.getProvinceCode();
+        cityCode[index] = info.getCityCode();
+    }
+
+    private static boolean sameChars(CharSequence source, char[] buffer) {
+        if (source.length() != IdCardValidator.CHINA_ID_MAX_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < IdCardValidator.CHINA_ID_MAX_LENGTH; i++) {
+            if (source.charAt(i) != buffer[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,130 @@
+package per.nonlone.utils.idcard;
+
+import lombok.Getter;
+
+/**
+ * 身份证解析结果
+ * <p>
+ * 可变对象，由调用方创建后在批量校验中重复使用，每次 {@link IdCardValidator#validate(CharSequence, IdCardInfo)} 会整体覆盖
+ * </p>
+ */
+@Getter
+public class IdCardInfo {
+
+    /**
+     * 校验结果
+     */
+    private IdCardStatus status = IdCardStatus.EMPTY;
+
+    /**
+     * 有效部分起始位置，已跳过首尾空白
+     */
+    private int start;
+
+    /**
+     * 号码长度，15或18
+     */
+    private int length;
+
+    /**
+     * 省级编码，两位
+     */
+    private int provinceCode;
+
+    /**
+     * 市级编码，四位
+     */
+    private int cityCode;
+
+    /**
+     * 出生年，15位号码按19xx年计算
+     */
+    private int birthYear;
+
+    /**
+     * 出生月
+     */
+    private int birthMonth;
+
+    /**
+     * 出生日
+     */
+    private int birthDay;
+
+    /**
+     * 出生日期纪元日
+     */
+    private int birthEpochDay;
+
+    /**
+     * 是否男性，顺序码末位奇数为男
+     */
+    private boolean male;
+
+    /**
+     * 18位校验码，15位号码为转换后的校验码
+     */
+    private char checkCode;
+
+    public boolean isValid() {
+        return status == IdCardStatus.VALID;
+    }
+
+    /**
+     * 出生日期，格式 yyyyMMdd
+     *
+     * @return
+     */
+    public int getBirthYearMonthDay() {
+        return birthYear * 10000 + birthMonth * 100 + birthDay;
+    }
+
+    /**
+     * 性别
+     *
+     * @return M - 男，F - 女
+     */
+    public String getGender() {
+        return male ? "M" : "F";
+    }
+
+    IdCardInfo reset(int start, int length) {
+        this.status = IdCardStatus.EMPTY;
+        this.start = start;
+        this.length = length;
+        this.provinceCode = 0;
+        this.cityCode = 0;
+        this.birthYear = 0;
+        this.birthMonth = 0;
+        this.birthDay = 0;
+        this.birthEpochDay = 0;
+        this.male = false;
+        this.checkCode = 0;
+        return this;
+    }
+
+    IdCardStatus status(IdCardStatus status) {
+        this.status = status;
+        return status;
+    }
+
+    void region(int provinceCode, int cityCode) {
+        this.provinceCode = provinceCode;
+        this.cityCode = cityCode;
+    }
+
+    void birth(int birthYear, int birthMonth, int birthDay, int birthEpochDay) {
+        this.birthYear = birthYear;
+        this.birthMonth = birthMonth;
+        this.birthDay = birthDay;
+        this.birthEpochDay = birthEpochDay;
+    }
+
+    void male(boolean male) {
+        this.male = male;
+    }
+
+    void checkCode(char checkCode) {
+        this.checkCode = checkCode;
+    }
+}
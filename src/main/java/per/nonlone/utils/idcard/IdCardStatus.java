@@ -0,0 +1,46 @@
+package per.nonlone.utils.idcard;
+
+/**
+ * 身份证校验结果
+ */
+public enum IdCardStatus {
+
+    /**
+     * 合法
+     */
+    VALID,
+
+    /**
+     * 为空
+     */
+    EMPTY,
+
+    /**
+     * 长度不是15或18位
+     */
+    BAD_LENGTH,
+
+    /**
+     * 含有非数字字符，18位末位允许X
+     */
+    BAD_CHARACTER,
+
+    /**
+     * 省份编码不存在
+     */
+    BAD_PROVINCE,
+
+    /**
+     * 出生日期非法或晚于当天
+     */
+    BAD_BIRTH_DATE,
+
+    /**
+     * 18位校验码不符
+     */
+    BAD_CHECK_CODE;
+
+    public boolean isValid() {
+        return this == VALID;
+    }
+}
@@ -0,0 +1,292 @@
+package per.nonlone.utils.idcard;
+
+import per.nonlone.utils.datetime.AgeCalculator;
+import per.nonlone.utils.datetime.EpochDays;
+
+import java.util.Objects;
+
+/**
+ * 身份证单次扫描校验
+ * <p>
+ * 一次遍历完成数字检查、加权校验码、出生日期和省份编码校验，
+ * 不截取子串、不使用正则和日期格式化，结果写入调用方提供的 {@link IdCardInfo}
+ * </p>
+ */
+public abstract class IdCardValidator {
+
+    /**
+     * 中国公民身份证号码最小长度
+     */
+    public static final int CHINA_ID_MIN_LENGTH = 15;
+
+    /**
+     * 中国公民身份证号码最大长度
+     */
+    public static final int CHINA_ID_MAX_LENGTH = 18;
+
+    /**
+     * 出生年下限
+     */
+    public static final int MIN_BIRTH_YEAR = 1800;
+
+    /**
+     * 出生日期非法标识
+     */
+    public static final int INVALID_EPOCH_DAY = Integer.MIN_VALUE;
+
+    /**
+     * 每位加权因子
+     */
+    private static final int[] POWER = {7, 9, 10, 5, 8, 4, 2, 1, 6, 3, 7, 9, 10, 5, 8, 4, 2};
+
+    /**
+     * 加权和模11对应的校验码
+     */
+    private static final char[] VERIFY_CODE = {'1', '0', 'X', '9', '8', '7', '6', '5', '4', '3', '2'};
+
+    /**
+     * 15位号码转18位时补充的年份前两位对加权和的贡献
+     */
+    private static final int CENTURY_19_POWER_SUM = 1 * POWER[6] + 9 * POWER[7];
+
+    /**
+     * 校验身份证
+     *
+     * @param idCard 15或18位号码，允许首尾空白
+     * @return
+     */
+    public static IdCardStatus validate(CharSequence idCard) {
+        return validate(idCard, null);
+    }
+
+    /**
+     * 校验身份证并填充解析结果
+     *
+     * @param idCard 15或18位号码，允许首尾空白
+     * @param info   解析结果，可为空
+     * @return
+     */
+    public static IdCardStatus validate(CharSequence idCard, IdCardInfo info) {
+        return validate(idCard, info, AgeCalculator.getDefaultInstance().getTodayEpochDay());
+    }
+
+    /**
+     * 校验身份证并填充解析结果，批量校验时由调用方固定当天日期
+     *
+     * @param idCard        15或18位号码，允许首尾空白
+     * @param info          解析结果，可为空
+     * @param todayEpochDay 当天纪元日，出生日期不得晚于当天
+     * @return
+     */
+    public static IdCardStatus validate(CharSequence idCard, IdCardInfo info, int todayEpochDay) {
+        if (Objects.isNull(idCard)) {
+            return Objects.isNull(info) ? IdCardStatus.EMPTY : info.reset(0, 0).status(IdCardStatus.EMPTY);
+        }
+        int start = 0;
+        int end = idCard.length();
+        while (start < end && idCard.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && idCard.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        int length = end - start;
+        if (Objects.nonNull(info)) {
+            info.reset(start, length);
+        }
+        IdCardStatus status = scan(idCard, start, length, info, todayEpochDay);
+        return Objects.isNull(info) ? status : info.status(status);
+    }
+
+    /**
+     * 仅校验18位号码的数字和校验码，不检查省份和出生日期
+     *
+     * @param idCard
+     * @return
+     */
+    public static boolean isCheckCodeValid(CharSequence idCard) {
+        if (Objects.isNull(idCard) || idCard.length() != CHINA_ID_MAX_LENGTH) {
+            return false;
+        }
+        int powerSum = 0;
+        for (int i = 0; i < CHINA_ID_MAX_LENGTH - 1; i++) {
+            int digit = idCard.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return false;
+            }
+            powerSum += digit * POWER[i];
+        }
+        return checkCode(powerSum) == Character.toUpperCase(idCard.charAt(CHINA_ID_MAX_LENGTH - 1));
+    }
+
+    /**
+     * 前17位数字的加权和
+     *
+     * @param digits 前17位数字
+     * @return 长度不为17时返回0
+     */
+    public static int powerSum(int[] digits) {
+        if (digits.length != POWER.length) {
+            return 0;
+        }
+        int powerSum = 0;
+        for (int i = 0; i < POWER.length; i++) {
+            powerSum += digits[i] * POWER[i];
+        }
+        return powerSum;
+    }
+
+    /**
+     * 加权和对应的校验码
+     *
+     * @param powerSum 前17位加权和
+     * @return '0'-'9' 或 'X'
+     */
+    public static char checkCode(int powerSum) {
+        return VERIFY_CODE[powerSum % 11];
+    }
+
+    /**
+     * 解析出生日期纪元日，不校验校验码和省份，15位号码按19xx年计算
+     *
+     * @param idCard 15或18位号码
+     * @return 长度或日期非法返回 {@link #INVALID_EPOCH_DAY}
+     */
+    public static int birthEpochDay(CharSequence idCard) {
+        if (Objects.isNull(idCard)) {
+            return INVALID_EPOCH_DAY;
+        }
+        int length = idCard.length();
+        if (length != CHINA_ID_MIN_LENGTH && length != CHINA_ID_MAX_LENGTH) {
+            return INVALID_EPOCH_DAY;
+        }
+        int birth = length == CHINA_ID_MAX_LENGTH ? 0 : 19;
+        for (int i = 6, end = length == CHINA_ID_MAX_LENGTH ? 14 : 12; i < end; i++) {
+            int digit = idCard.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return INVALID_EPOCH_DAY;
+            }
+            birth = birth * 10 + digit;
+        }
+        int year = birth / 10000;
+        int month = birth / 100 % 100;
+        int day = birth % 100;
+        return EpochDays.isValid(year, month, day) ? EpochDays.toEpochDay(year, month, day) : INVALID_EPOCH_DAY;
+    }
+
+    /**
+     * 写出18位号码，15位号码补全年份和校验码，18位号码末位统一为大写
+     *
+     * @param idCard 已通过 {@link #validate(CharSequence, IdCardInfo)} 校验的号码
+     * @param info   校验结果
+     * @param buffer 输出缓冲，长度不小于 offset + 18
+     * @param offset
+     * @return 写出长度，未通过校验返回 0
+     */
+    public static int writeIdCard18(CharSequence idCard, IdCardInfo info, char[] buffer, int offset) {
+        if (!info.isValid()) {
+            return 0;
+        }
+        int start = info.getStart();
+        if (info.getLength() == CHINA_ID_MAX_LENGTH) {
+            for (int i = 0; i < CHINA_ID_MAX_LENGTH - 1; i++) {
+                buffer[offset + i] = idCard.charAt(start + i);
+            }
+        } else {
+            for (int i = 0; i < 6; i++) {
+                buffer[offset + i] = idCard.charAt(start + i);
+            }
+            buffer[offset + 6] = '1';
+            buffer[offset + 7] = '9';
+            for (int i = 6; i < CHINA_ID_MIN_LENGTH; i++) {
+                buffer[offset + i + 2] = idCard.charAt(start + i);
+            }
+        }
+        buffer[offset + CHINA_ID_MAX_LENGTH - 1] = info.getCheckCode();
+        return CHINA_ID_MAX_LENGTH;
+    }
+
+    /**
+     * 是否为全数字
+     *
+     * @param value
+     * @return 为空返回 false
+     */
+    public static boolean isDigits(CharSequence value) {
+        if (Objects.isNull(value) || value.length() == 0) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static IdCardStatus scan(CharSequence idCard, int start, int length, IdCardInfo info, int todayEpochDay) {
+        if (length == 0) {
+            return IdCardStatus.EMPTY;
+        }
+        if (length != CHINA_ID_MIN_LENGTH && length != CHINA_ID_MAX_LENGTH) {
+            return IdCardStatus.BAD_LENGTH;
+        }
+        boolean idCard18 = length == CHINA_ID_MAX_LENGTH;
+        int digitCount = idCard18 ? CHINA_ID_MAX_LENGTH - 1 : CHINA_ID_MIN_LENGTH;
+        // 15位号码第7位起在18位中后移两位
+        int powerSum = idCard18 ? 0 : CENTURY_19_POWER_SUM;
+        int cityCode = 0;
+        int birth = 0;
+        for (int i = 0; i < digitCount; i++) {
+            int digit = idCard.charAt(start + i) - '0';
+            if (digit < 0 || digit > 9) {
+                return IdCardStatus.BAD_CHARACTER;
+            }
+            int position18 = idCard18 || i < 6 ? i : i + 2;
+            powerSum += digit * POWER[position18];
+            if (i < 4) {
+                cityCode = cityCode * 10 + digit;
+            } else if (i >= 6 && position18 < 14) {
+                birth = birth * 10 + digit;
+            }
+        }
+        char lastChar = 0;
+        int genderDigit;
+        if (idCard18) {
+            lastChar = Character.toUpperCase(idCard.charAt(start + digitCount));
+            if ((lastChar < '0' || lastChar > '9') && lastChar != 'X') {
+                return IdCardStatus.BAD_CHARACTER;
+            }
+            genderDigit = idCard.charAt(start + 16) - '0';
+        } else {
+            genderDigit = idCard.charAt(start + 14) - '0';
+            birth += 19000000;
+        }
+        int provinceCode = cityCode / 100;
+        if (!RegionCodes.isProvince(provinceCode)) {
+            return IdCardStatus.BAD_PROVINCE;
+        }
+        int year = birth / 10000;
+        int month = birth / 100 % 100;
+        int day = birth % 100;
+        if (year < MIN_BIRTH_YEAR || !EpochDays.isValid(year, month, day)) {
+            return IdCardStatus.BAD_BIRTH_DATE;
+        }
+        int birthEpochDay = EpochDays.toEpochDay(year, month, day);
+        if (birthEpochDay > todayEpochDay) {
+            return IdCardStatus.BAD_BIRTH_DATE;
+        }
+        char checkCode = checkCode(powerSum);
+        if (Objects.nonNull(info)) {
+            info.region(provinceCode, cityCode);
+            info.birth(year, month, day, birthEpochDay);
+            info.male((genderDigit & 1) == 1);
+            info.checkCode(checkCode);
+        }
+        if (idCard18 && lastChar != checkCode) {
+            return IdCardStatus.BAD_CHECK_CODE;
+        }
+        return IdCardStatus.VALID;
+    }
+}
@@ -0,0 +1,214 @@
+package per.nonlone.utils.idcard;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * 身份证地区编码索引
+ * <p>
+ * 省级、市级编码按数值直接下标访问，默认从类路径 {@link #DEFAULT_RESOURCE} 加载，
+ * 可通过 {@link #load(Path)} 从外部文件整体替换，查询不产生对象分配。
+ * 台湾、香港证件首字母对应数值按字符下标访问
+ * </p>
+ */
+@Slf4j
+public abstract class RegionCodes {
+
+    /**
+     * 默认地区编码文件，UTF-8，每行 编码=名称
+     */
+    public static final String DEFAULT_RESOURCE = "/per/nonlone/utils/idcard/region-codes.txt";
+
+    private static final int PROVINCE_SIZE = 100;
+
+    private static final int CITY_SIZE = 10000;
+
+    /**
+     * 台湾身份证首字母对应数字，按 'A'-'Z' 下标
+     */
+    private static final byte[] TW_FIRST_CODE = {
+            10, 11, 12, 13, 14, 15, 16, 17, 34, 18, 19, 20, 21,
+            22, 35, 23, 24, 25, 26, 27, 28, 29, 32, 30, 31, 33
+    };
+
+    /**
+     * 香港身份证首字母对应数字，按 'A'-'Z' 下标，0 表示未定义
+     */
+    private static final byte[] HK_FIRST_CODE = {
+            1, 2, 3, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
+            14, 15, 0, 0, 18, 0, 0, 21, 0, 23, 24, 0, 26
+    };
+
+    private static volatile Table table = loadDefault();
+
+    /**
+     * 从外部文件替换地区编码
+     *
+     * @param path UTF-8 文件，每行 编码=名称
+     * @throws IOException
+     */
+    public static void load(Path path) throws IOException {
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            load(reader);
+        }
+    }
+
+    /**
+     * 替换地区编码，读取完成后整体生效
+     *
+     * @param reader 每行 编码=名称，两位为省级，四位为市级，# 开头为注释
+     * @throws IOException
+     */
+    public static void load(Reader reader) throws IOException {
+        table = parse(reader);
+    }
+
+    /**
+     * 是否为存在的省级编码
+     *
+     * @param provinceCode
+     * @return
+     */
+    public static boolean isProvince(int provinceCode) {
+        return Objects.nonNull(getProvinceName(provinceCode));
+    }
+
+    /**
+     * 省级名称
+     *
+     * @param provinceCode 两位编码
+     * @return 不存在返回 null
+     */
+    public static String getProvinceName(int provinceCode) {
+        return provinceCode < 0 || provinceCode >= PROVINCE_SIZE ? null : table.provinceNames[provinceCode];
+    }
+
+    /**
+     * 市级名称
+     *
+     * @param cityCode 四位编码
+     * @return 不存在返回 null
+     */
+    public static String getCityName(int cityCode) {
+        return cityCode < 0 || cityCode >= CITY_SIZE ? null : table.cityNames[cityCode];
+    }
+
+    /**
+     * 按身份证号码前两位取省级名称
+     *
+     * @param idCard
+     * @return 不存在返回 null
+     */
+    public static String getProvinceNameByIdCard(CharSequence idCard) {
+        return getProvinceName(leadingCode(idCard, 2));
+    }
+
+    /**
+     * 按身份证号码前四位取市级名称
+     *
+     * @param idCard
+     * @return 不存在返回 null
+     */
+    public static String getCityNameByIdCard(CharSequence idCard) {
+        return getCityName(leadingCode(idCard, 4));
+    }
+
+    /**
+     * 台湾身份证首字母对应数字
+     *
+     * @param letter
+     * @return 非字母返回 -1
+     */
+    public static int getTwFirstCode(char letter) {
+        int index = Character.toUpperCase(letter) - 'A';
+        return index < 0 || index >= TW_FIRST_CODE.length ? -1 : TW_FIRST_CODE[index];
+    }
+
+    /**
+     * 香港身份证首字母对应数字
+     *
+     * @param letter
+     * @return 未定义返回 -1
+     */
+    public static int getHkFirstCode(char letter) {
+        int index = Character.toUpperCase(letter) - 'A';
+        return index < 0 || index >= HK_FIRST_CODE.length || HK_FIRST_CODE[index] == 0 ? -1 : HK_FIRST_CODE[index];
+    }
+
+    /**
+     * 前 count 位数字
+     *
+     * @return 非数字返回 -1
+     */
+    private static int leadingCode(CharSequence idCard, int count) {
+        if (Objects.isNull(idCard) || idCard.length() < count) {
+            return -1;
+        }
+        int code = 0;
+        for (int i = 0; i < count; i++) {
+            int digit = idCard.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            code = code * 10 + digit;
+        }
+        return code;
+    }
+
+    private static Table loadDefault() {
+        try (InputStream inputStream = RegionCodes.class.getResourceAsStream(DEFAULT_RESOURCE)) {
+            if (Objects.isNull(inputStream)) {
+                log.error("region codes resource<{}> not found", DEFAULT_RESOURCE);
+                return new Table();
+            }
+            return parse(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            log.error(String.format("load region codes resource<%s> error", DEFAULT_RESOURCE), e);
+            return new Table();
+        }
+    }
+
+    private static Table parse(Reader reader) throws IOException {
+        Table parsed = new Table();
+        BufferedReader bufferedReader = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+        String line;
+        int lineNumber = 0;
+        while (Objects.nonNull(line = bufferedReader.readLine())) {
+            lineNumber++;
+            line = line.trim();
+            if (line.isEmpty() || line.charAt(0) == '#') {
+                continue;
+            }
+            int index = line.indexOf('=');
+            String code = index > 0 ? line.substring(0, index).trim() : "";
+            String name = index > 0 ? line.substring(index + 1).trim() : "";
+            int value = leadingCode(code, code.length());
+            if (value < 0 || name.isEmpty() || (code.length() != 2 && code.length() != 4)) {
+                log.warn("skip illegal region code line<{}> content<{}>", lineNumber, line);
+                continue;
+            }
+            if (code.length() == 2) {
+                parsed.provinceNames[value] = name;
+            } else {
+                parsed.cityNames[value] = name;
+            }
+        }
+        return parsed;
+    }
+
+    private static class Table {
+
+        private final String[] provinceNames = new String[PROVINCE_SIZE];
+
+        private final String[] cityNames = new String[CITY_SIZE];
+    }
+}
@@ -7,8 +7,8 @@ package per.nonlone.utils.identity;
 
 import org.apache.commons.codec.DecoderException;
 import org.apache.commons.codec.binary.Base64;
-import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.lang3.StringEscapeUtils;
+import per.nonlone.utils.encode.HexCodec;
 
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
@@ -34,18 +34,18 @@ public class Encodes {
 	 * Hex编码.
 	 */
 	public static String encodeHex(byte[] input) {
-		return Hex.encodeHexString(input);
+		return HexCodec.encodeLower(input);
 	}
 
 	/**
 	 * Hex解码.
 	 */
 	public static byte[] decodeHex(String input) {
-		try {
-			return Hex.decodeHex(input.toCharArray());
-		} catch (DecoderException e) {
-			throw Exceptions.unchecked(e);
+		byte[] output = HexCodec.decode(input);
+		if (output == null) {
+			throw Exceptions.unchecked(new DecoderException("Illegal hexadecimal data"));
 		}
+		return output;
 	}
 
 	/**
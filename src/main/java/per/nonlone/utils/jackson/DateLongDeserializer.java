@@ -2,6 +2,7 @@ package per.nonlone.utils.jackson;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import per.nonlone.utils.StringUtils;
@@ -17,8 +18,16 @@ public class DateLongDeserializer extends StdDeserializer<Date> {
 
     @Override
     public Date deserialize(JsonParser jsonParser, DeserializationContext deserializationContext) throws IOException, JsonProcessingException {
-        if (Objects.nonNull(jsonParser) && StringUtils.isNotBlank(jsonParser.getText())) {
-            Long timestamp = Long.parseLong(jsonParser.getText());
+        if (Objects.isNull(jsonParser)) {
+            return null;
+        }
+        // 数值直接读取，不经过文本
+        if (jsonParser.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+            return new Date(jsonParser.getLongValue());
+        }
+        String text = jsonParser.getText();
+        if (StringUtils.isNotBlank(text)) {
+            Long timestamp = Long.parseLong(text.trim());
             return new Date(timestamp);
         }
         return null;
@@ -0,0 +1,70 @@
+package per.nonlone.utils.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import per.nonlone.utils.datetime.CachedDateFormatter;
+import per.nonlone.utils.datetime.DateTimeStyle;
+import per.nonlone.utils.datetime.DateUtils;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.Objects;
+
+/**
+ * 时间按格式序列化，支持 Date、Instant、LocalDateTime、LocalDate
+ * <p>
+ * 常用格式通过 {@link CachedDateFormatter} 写入复用缓冲后直接交给 JsonGenerator，不创建字符串
+ * </p>
+ */
+public class DatePatternStdSerializer extends StdSerializer<Object> {
+
+    private final String pattern;
+
+    /**
+     * 固定格式写出器，不支持的格式为空
+     */
+    private final CachedDateFormatter formatter;
+
+    public DatePatternStdSerializer() {
+        this(DateTimeStyle.DEFAULT_YYYY_MM_DD_HH_MM_SS);
+    }
+
+    public DatePatternStdSerializer(String pattern) {
+        super(Object.class);
+        this.pattern = pattern;
+        this.formatter = CachedDateFormatter.getInstance(pattern);
+    }
+
+    @Override
+    public void serialize(Object value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (Objects.isNull(formatter)) {
+            if (value instanceof Date) {
+                gen.writeString(DateUtils.format((Date) value, pattern));
+            } else if (value instanceof Instant) {
+                gen.writeString(DateUtils.format(Date.from((Instant) value), pattern));
+            } else {
+                gen.writeString(value.toString());
+            }
+            return;
+        }
+        char[] buffer = CachedDateFormatter.threadLocalBuffer();
+        int length;
+        if (value instanceof Date) {
+            length = formatter.format(((Date) value).getTime(), buffer, 0);
+        } else if (value instanceof Instant) {
+            length = formatter.format(((Instant) value).toEpochMilli(), buffer, 0);
+        } else if (value instanceof LocalDateTime) {
+            length = formatter.format((LocalDateTime) value, buffer, 0);
+        } else if (value instanceof LocalDate) {
+            length = formatter.format((LocalDate) value, buffer, 0);
+        } else {
+            gen.writeString(value.toString());
+            return;
+        }
+        gen.writeString(buffer, 0, length);
+    }
+}
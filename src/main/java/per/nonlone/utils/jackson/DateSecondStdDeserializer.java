@@ -2,6 +2,7 @@ package per.nonlone.utils.jackson;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import per.nonlone.utils.StringUtils;
@@ -23,8 +24,16 @@ public class DateSecondStdDeserializer extends StdDeserializer<Date> {
 
     @Override
     public Date deserialize(JsonParser p, DeserializationContext ctxt) throws IOException, JsonProcessingException {
-        if (Objects.nonNull(p) && StringUtils.isNotBlank(p.getText())) {
-            return new Date(TimeUnit.MILLISECONDS.convert(Long.parseLong(p.getText()), TimeUnit.SECONDS));
+        if (Objects.isNull(p)) {
+            return null;
+        }
+        // 数值直接读取，不经过文本
+        if (p.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+            return new Date(TimeUnit.MILLISECONDS.convert(p.getLongValue(), TimeUnit.SECONDS));
+        }
+        String text = p.getText();
+        if (StringUtils.isNotBlank(text)) {
+            return new Date(TimeUnit.MILLISECONDS.convert(Long.parseLong(text.trim()), TimeUnit.SECONDS));
         }
         return null;
     }
@@ -7,7 +7,6 @@ import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 import java.io.IOException;
 import java.util.Date;
 import java.util.Objects;
-import java.util.concurrent.TimeUnit;
 
 /**
  * 时间以秒为单位序列化
@@ -25,7 +24,8 @@ public class DateSecondStdSerializer extends StdSerializer<Date> {
     @Override
     public void serialize(Date value, JsonGenerator gen, SerializerProvider provider) throws IOException {
         if (Objects.nonNull(value)) {
-            gen.writeObject(TimeUnit.SECONDS.convert(value.getTime(), TimeUnit.MILLISECONDS));
+            // 直接写出数值，避免 writeObject 装箱
+            gen.writeNumber(value.getTime() / 1000L);
         }
     }
 }
@@ -1,35 +1,183 @@
 package per.nonlone.utils.jackson;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
 import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
 import lombok.extern.slf4j.Slf4j;
 import per.nonlone.utils.ObjectUtils;
 
 import java.io.IOException;
 import java.lang.reflect.Field;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * 空值序列化
+ * <p>
+ * 通过 {@link #module()} 注册时在构建 Bean 序列化器阶段按属性类型确定输出，每个空值仅一次写出：
+ * 集合/数组输出 []，Map 输出 {}，其余输出 ""，Optional 按内容类型判断。
+ * 通过 setNullValueSerializer 注册 {@link #NullSerializer()} 时保持原有输出：集合/数组输出 []，其余（含 Map、Optional）输出 ""
+ * </p>
+ */
 @Slf4j
 public class NullSerializer extends JsonSerializer<Object> {
 
+    /**
+     * 输出 ""
+     */
+    public static final NullSerializer EMPTY_STRING = new NullSerializer(Kind.STRING);
+
+    /**
+     * 输出 []
+     */
+    public static final NullSerializer EMPTY_ARRAY = new NullSerializer(Kind.ARRAY);
+
+    /**
+     * 输出 {}
+     */
+    public static final NullSerializer EMPTY_OBJECT = new NullSerializer(Kind.OBJECT);
+
+    /**
+     * 未确定类型时的 类 -> (属性 -> 序列化器) 判断缓存
+     */
+    private static final ClassValue<Map<String, NullSerializer>> FIELD_CACHE = new ClassValue<Map<String, NullSerializer>>() {
+        @Override
+        protected Map<String, NullSerializer> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final Kind kind;
+
+    /**
+     * 未确定类型，通过 setNullValueSerializer 注册时使用
+     */
+    public NullSerializer() {
+        this(null);
+    }
+
+    private NullSerializer(Kind kind) {
+        this.kind = kind;
+    }
+
+    /**
+     * 注册模块，构建 Bean 序列化器时为每个属性分配空值序列化器
+     *
+     * @return
+     */
+    public static SimpleModule module() {
+        SimpleModule simpleModule = new SimpleModule(NullSerializer.class.getSimpleName());
+        simpleModule.setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            public List<BeanPropertyWriter> changeProperties(SerializationConfig config, BeanDescription beanDesc, List<BeanPropertyWriter> beanProperties) {
+                for (BeanPropertyWriter beanPropertyWriter : beanProperties) {
+                    if (!beanPropertyWriter.hasNullSerializer()) {
+                        beanPropertyWriter.assignNullSerializer(forType(beanPropertyWriter.getType()));
+                    }
+                }
+                return beanProperties;
+            }
+        });
+        return simpleModule;
+    }
+
+    /**
+     * 根据类型获取空值序列化器
+     *
+     * @param javaType
+     * @return
+     */
+    public static NullSerializer forType(JavaType javaType) {
+        if (Objects.isNull(javaType)) {
+            return EMPTY_STRING;
+        }
+        if (javaType.isTypeOrSubTypeOf(Optional.class)) {
+            return forType(javaType.containedType(0));
+        }
+        if (javaType.isArrayType() || javaType.isCollectionLikeType()) {
+            return EMPTY_ARRAY;
+        }
+        if (javaType.isMapLikeType()) {
+            return EMPTY_OBJECT;
+        }
+        return EMPTY_STRING;
+    }
+
+    /**
+     * 原有输出规则，集合/数组输出 []，其余输出 ""
+     *
+     * @param clazz
+     * @return
+     */
+    private static NullSerializer legacyForClass(Class<?> clazz) {
+        if (clazz.isArray() || Collection.class.isAssignableFrom(clazz)) {
+            return EMPTY_ARRAY;
+        }
+        return EMPTY_STRING;
+    }
+
     @Override
     public void serialize(Object o, JsonGenerator jsonGenerator, SerializerProvider serializerProvider) throws IOException {
-        Class<?> clazz = jsonGenerator.getCurrentValue().getClass();
-        String name = jsonGenerator.getOutputContext().getCurrentName();
-        Field field = ObjectUtils.getAccessibleField(clazz, name);
-        if (Objects.isNull(field)) {
-            log.warn(String.format("field not exist class<%s> key<%s>", clazz.getName(), name));
-            jsonGenerator.writeString("");
-        } else {
-            Class<?> fieldClass = field.getType();
-            if (fieldClass.isArray() || Collection.class.isAssignableFrom(fieldClass)) {
+        Kind targetKind = kind;
+        if (Objects.isNull(targetKind)) {
+            targetKind = resolve(jsonGenerator).kind;
+        }
+        switch (targetKind) {
+            case ARRAY:
                 jsonGenerator.writeStartArray();
                 jsonGenerator.writeEndArray();
-            } else {
+                break;
+            case OBJECT:
+                jsonGenerator.writeStartObject();
+                jsonGenerator.writeEndObject();
+                break;
+            default:
                 jsonGenerator.writeString("");
+                break;
+        }
+    }
+
+    /**
+     * 未确定类型时按当前对象和属性名反射判断，仅缓存找到字段的结果；Map 的键不是字段，直接输出 ""
+     *
+     * @param jsonGenerator
+     * @return
+     */
+    private static NullSerializer resolve(JsonGenerator jsonGenerator) {
+        Object currentValue = jsonGenerator.getCurrentValue();
+        String name = jsonGenerator.getOutputContext().getCurrentName();
+        if (Objects.isNull(currentValue) || Objects.isNull(name) || currentValue instanceof Map) {
+            return EMPTY_STRING;
+        }
+        Class<?> clazz = currentValue.getClass();
+        Map<String, NullSerializer> fieldCache = FIELD_CACHE.get(clazz);
+        NullSerializer nullSerializer = fieldCache.get(name);
+        if (Objects.isNull(nullSerializer)) {
+            Field field = ObjectUtils.getAccessibleField(clazz, name);
+            if (Objects.isNull(field)) {
+                log.warn(String.format("field not exist class<%s> key<%s>", clazz.getName(), name));
+                return EMPTY_STRING;
             }
+            nullSerializer = legacyForClass(field.getType());
+            fieldCache.put(name, nullSerializer);
         }
+        return nullSerializer;
+    }
+
+    /**
+     * 空值输出类型
+     */
+    private enum Kind {
+        STRING, ARRAY, OBJECT
     }
 }
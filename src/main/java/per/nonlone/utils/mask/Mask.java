@@ -0,0 +1,27 @@
+package per.nonlone.utils.mask;
+
+import com.fasterxml.jackson.annotation.JacksonAnnotationsInside;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.lang.annotation.*;
+
+/**
+ * 成员变量脱敏
+ * <p>
+ * Jackson 通过 {@link MaskJacksonSerializer} 自动生效，fastjson 需要在序列化时加入 {@link MaskValueFilter}
+ * </p>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(value = {ElementType.FIELD, ElementType.METHOD})
+@JacksonAnnotationsInside
+@JsonSerialize(using = MaskJacksonSerializer.class)
+public @interface Mask {
+
+    /**
+     * 脱敏类型
+     *
+     * @return
+     */
+    MaskType type();
+}
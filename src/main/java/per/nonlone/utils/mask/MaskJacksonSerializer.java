@@ -0,0 +1,57 @@
+package per.nonlone.utils.mask;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Jackson 脱敏序列化，构建序列化器时根据 {@link Mask} 确定脱敏类型
+ */
+public class MaskJacksonSerializer extends StdSerializer<Object> implements ContextualSerializer {
+
+    /**
+     * 每种脱敏类型共享的序列化器
+     */
+    private static final MaskJacksonSerializer[] INSTANCES = new MaskJacksonSerializer[MaskType.values().length];
+
+    static {
+        for (MaskType maskType : MaskType.values()) {
+            INSTANCES[maskType.ordinal()] = new MaskJacksonSerializer(maskType);
+        }
+    }
+
+    private final MaskType maskType;
+
+    public MaskJacksonSerializer() {
+        this(null);
+    }
+
+    public MaskJacksonSerializer(MaskType maskType) {
+        super(Object.class);
+        this.maskType = maskType;
+    }
+
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider prov, BeanProperty property) {
+        Mask mask = Objects.nonNull(property) ? property.getAnnotation(Mask.class) : null;
+        if (Objects.isNull(mask)) {
+            return this;
+        }
+        return INSTANCES[mask.type().ordinal()];
+    }
+
+    @Override
+    public void serialize(Object value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        char[] chars = value.toString().toCharArray();
+        if (Objects.nonNull(maskType)) {
+            MaskUtils.mask(chars, 0, chars.length, maskType);
+        }
+        gen.writeString(chars, 0, chars.length);
+    }
+}
@@ -0,0 +1,82 @@
+package per.nonlone.utils.mask;
+
+/**
+ * 脱敏类型
+ * <p>
+ * 等价于正则 (C{front})C{middle}(C{back}) 全量替换，C 为字符类别，中间部分替换为 *
+ * </p>
+ */
+public enum MaskType {
+
+    /**
+     * 身份证号，等价于 (\w{4})\w{10}(\w{4})
+     */
+    ID_CARD(true, 4, 10, 4),
+
+    /**
+     * 手机号，等价于 (\d{3})\d{4}(\d{4})
+     */
+    PHONE(false, 3, 4, 4),
+
+    /**
+     * 银行卡号，等价于 (\d{4})\d{8}(\d{4})
+     */
+    BANK_CARD(false, 4, 8, 4);
+
+    /**
+     * 是否按单词字符 [a-zA-Z_0-9] 匹配，否则仅匹配数字
+     */
+    private final boolean word;
+
+    /**
+     * 保留前缀长度
+     */
+    private final int front;
+
+    /**
+     * 脱敏长度
+     */
+    private final int middle;
+
+    /**
+     * 保留后缀长度
+     */
+    private final int back;
+
+    MaskType(boolean word, int front, int middle, int back) {
+        this.word = word;
+        this.front = front;
+        this.middle = middle;
+        this.back = back;
+    }
+
+    /**
+     * 是否属于可匹配字符
+     *
+     * @param c
+     * @return
+     */
+    boolean accept(char c) {
+        if (c >= '0' && c <= '9') {
+            return true;
+        }
+        return word && ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_');
+    }
+
+    int getFront() {
+        return front;
+    }
+
+    int getMiddle() {
+        return middle;
+    }
+
+    /**
+     * 单次匹配窗口长度
+     *
+     * @return
+     */
+    int getWindow() {
+        return front + middle + back;
+    }
+}
@@ -0,0 +1,179 @@
+package per.nonlone.utils.mask;
+
+import java.util.Objects;
+
+/**
+ * 脱敏工具类
+ * <p>
+ * 直接操作 char[]，不编译、不执行正则
+ * </p>
+ */
+public abstract class MaskUtils {
+
+    /**
+     * 脱敏字符
+     */
+    public static final char MASK_CHAR = '*';
+
+    /**
+     * 按类型脱敏，结果与 String.replaceAll 正则方式一致
+     *
+     * @param source
+     * @param maskType
+     * @return 无需脱敏时返回原字符串
+     */
+    public static String mask(String source, MaskType maskType) {
+        if (Objects.isNull(source)) {
+            return null;
+        }
+        char[] chars = null;
+        int length = source.length();
+        int window = maskType.getWindow();
+        int i = 0;
+        while (i < length) {
+            if (!maskType.accept(source.charAt(i))) {
+                i++;
+                continue;
+            }
+            int runStart = i;
+            while (i < length && maskType.accept(source.charAt(i))) {
+                i++;
+            }
+            // 连续字符中按窗口依次匹配，不重叠
+            for (int start = runStart; i - start >= window; start += window) {
+                if (Objects.isNull(chars)) {
+                    chars = source.toCharArray();
+                }
+                fill(chars, start + maskType.getFront(), maskType.getMiddle());
+            }
+        }
+        return Objects.isNull(chars) ? source : new String(chars);
+    }
+
+    /**
+     * 按类型原地脱敏字符数组
+     *
+     * @param chars
+     * @param offset
+     * @param length
+     * @param maskType
+     */
+    public static void mask(char[] chars, int offset, int length, MaskType maskType) {
+        int end = offset + length;
+        int window = maskType.getWindow();
+        int i = offset;
+        while (i < end) {
+            if (!maskType.accept(chars[i])) {
+                i++;
+                continue;
+            }
+            int runStart = i;
+            while (i < end && maskType.accept(chars[i])) {
+                i++;
+            }
+            for (int start = runStart; i - start >= window; start += window) {
+                fill(chars, start + maskType.getFront(), maskType.getMiddle());
+            }
+        }
+    }
+
+    /**
+     * 日志文本脱敏，识别独立的数字串：
+     * 18位(末位可为X)/15位为身份证号，1开头的11位为手机号，16-19位为银行卡号
+     *
+     * @param text
+     * @return
+     */
+    public static String maskText(CharSequence text) {
+        if (Objects.isNull(text)) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder(text.length());
+        maskText(text, 0, text.length(), sb);
+        return sb.toString();
+    }
+
+    /**
+     * 日志文本脱敏，结果追加到 StringBuilder
+     *
+     * @param text
+     * @param start
+     * @param end
+     * @param sb
+     */
+    public static void maskText(CharSequence text, int start, int end, StringBuilder sb) {
+        maskText(text, start, start, end, end, sb);
+    }
+
+    /**
+     * 日志文本脱敏，[contextStart, start) 与 [end, contextEnd) 仅用于判断数字串边界，不写出；
+     * 延伸到 end 之后的数字串按未结束处理，原样写出
+     *
+     * @param text
+     * @param contextStart
+     * @param start
+     * @param end
+     * @param contextEnd
+     * @param sb
+     */
+    static void maskText(CharSequence text, int contextStart, int start, int end, int contextEnd, StringBuilder sb) {
+        int i = start;
+        while (i < end) {
+            char c = text.charAt(i);
+            if (!isDigit(c) || (i > contextStart && isLetterOrDigit(text.charAt(i - 1)))) {
+                sb.append(c);
+                i++;
+                continue;
+            }
+            int runStart = i;
+            while (i < end && isDigit(text.charAt(i))) {
+                i++;
+            }
+            int runLength = i - runStart;
+            // 身份证号末位校验码
+            if (runLength == 17 && i < end && (text.charAt(i) == 'X' || text.charAt(i) == 'x')) {
+                i++;
+                runLength++;
+            }
+            // 与字母相连的不作为独立数字串
+            if (i < contextEnd && isLetterOrDigit(text.charAt(i))) {
+                sb.append(text, runStart, i);
+                continue;
+            }
+            int front;
+            int back;
+            if (runLength == 18 || runLength == 15) {
+                front = 4;
+                back = 4;
+            } else if (runLength == 11 && text.charAt(runStart) == '1') {
+                front = 3;
+                back = 4;
+            } else if (runLength >= 16 && runLength <= 19) {
+                front = 4;
+                back = 4;
+            } else {
+                sb.append(text, runStart, i);
+                continue;
+            }
+            sb.append(text, runStart, runStart + front);
+            for (int j = runLength - front - back; j > 0; j--) {
+                sb.append(MASK_CHAR);
+            }
+            sb.append(text, i - back, i);
+        }
+    }
+
+    private static void fill(char[] chars, int from, int count) {
+        for (int i = from, end = from + count; i < end; i++) {
+            chars[i] = MASK_CHAR;
+        }
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isLetterOrDigit(char c) {
+        return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+}
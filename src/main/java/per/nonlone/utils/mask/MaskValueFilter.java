@@ -0,0 +1,26 @@
+package per.nonlone.utils.mask;
+
+import com.alibaba.fastjson.serializer.BeanContext;
+import com.alibaba.fastjson.serializer.ContextValueFilter;
+
+import java.util.Objects;
+
+/**
+ * fastjson 脱敏过滤器，根据成员变量或方法上的 {@link Mask} 脱敏
+ */
+public class MaskValueFilter implements ContextValueFilter {
+
+    public final static MaskValueFilter instance = new MaskValueFilter();
+
+    @Override
+    public Object process(BeanContext context, Object object, String name, Object value) {
+        if (Objects.isNull(context) || !(value instanceof String)) {
+            return value;
+        }
+        Mask mask = context.getAnnation(Mask.class);
+        if (Objects.isNull(mask)) {
+            return value;
+        }
+        return MaskUtils.mask((String) value, mask.type());
+    }
+}
@@ -0,0 +1,109 @@
+package per.nonlone.utils.mask;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * 日志流脱敏，按行缓冲后通过 {@link MaskUtils#maskText(CharSequence, int, int, StringBuilder)} 写出
+ */
+public class MaskWriter extends Writer {
+
+    /**
+     * 单行最大缓冲，超出时写出除末尾可能未结束的数字串之外的内容
+     */
+    private static final int MAX_PENDING = 8192;
+
+    /**
+     * 可脱敏数字串的最大长度（19位银行卡号），末尾超出该长度的部分不会再被脱敏，可直接写出
+     */
+    private static final int MAX_TOKEN_LENGTH = 19;
+
+    private final Writer out;
+
+    /**
+     * 待脱敏内容，首个字符可能为已写出的上一个字符，仅作为边界判断的上下文
+     */
+    private final StringBuilder pending = new StringBuilder();
+
+    /**
+     * pending 中上下文字符数，0 或 1
+     */
+    private int contextLength;
+
+    /**
+     * 脱敏结果，复用
+     */
+    private final StringBuilder masked = new StringBuilder();
+
+    public MaskWriter(Writer out) {
+        super(out);
+        this.out = out;
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+        synchronized (lock) {
+            for (int i = off, end = off + len; i < end; i++) {
+                char c = cbuf[i];
+                pending.append(c);
+                if (c == '\n') {
+                    drain(pending.length());
+                }
+            }
+            if (pending.length() >= MAX_PENDING) {
+                drain(Math.max(safeLength(), pending.length() - MAX_TOKEN_LENGTH));
+            }
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        synchronized (lock) {
+            drain(pending.length());
+            out.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (lock) {
+            drain(pending.length());
+            out.close();
+        }
+    }
+
+    /**
+     * 末尾可能未结束的数字串之前的长度
+     *
+     * @return
+     */
+    private int safeLength() {
+        int i = pending.length();
+        while (i > contextLength) {
+            char c = pending.charAt(i - 1);
+            if ((c >= '0' && c <= '9') || c == 'X' || c == 'x') {
+                i--;
+            } else {
+                break;
+            }
+        }
+        return i;
+    }
+
+    /**
+     * 写出 pending 中 end 之前的内容，保留最后一个字符作为下次的上下文
+     *
+     * @param end
+     * @throws IOException
+     */
+    private void drain(int end) throws IOException {
+        if (end <= contextLength) {
+            return;
+        }
+        masked.setLength(0);
+        MaskUtils.maskText(pending, 0, contextLength, end, pending.length(), masked);
+        out.append(masked);
+        pending.delete(0, end - 1);
+        contextLength = 1;
+    }
+}
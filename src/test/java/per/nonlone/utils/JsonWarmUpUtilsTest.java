@@ -0,0 +1,49 @@
+package per.nonlone.utils;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class JsonWarmUpUtilsTest {
+
+    @Test
+    public void warmUpReportsUnserializableType() {
+        for (boolean parallel : new boolean[]{false, true}) {
+            List<JsonWarmUpUtils.WarmUpResult> results = JsonWarmUpUtils.warmUp(Arrays.asList(Plain.class, Conflict.class), parallel);
+            Assert.assertEquals(2, results.size());
+            Assert.assertEquals(Plain.class, results.get(0).getType());
+            Assert.assertTrue(results.get(0).isSuccess());
+            Assert.assertEquals(Conflict.class, results.get(1).getType());
+            Assert.assertFalse(results.get(1).isSuccess());
+            Assert.assertNotNull(results.get(1).getError());
+        }
+    }
+
+    public static class Plain {
+
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    /**
+     * 两个字段映射到同一属性，Jackson 无法构建序列化器
+     */
+    public static class Conflict {
+
+        @JsonProperty("value")
+        public String first;
+
+        @JsonProperty("value")
+        public String second;
+    }
+}
@@ -0,0 +1,98 @@
+package per.nonlone.utils.datetime;
+
+import org.apache.commons.lang3.time.FastDateFormat;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.Random;
+import java.util.TimeZone;
+
+public class CachedDateFormatterTest {
+
+    private static final String[] PATTERNS = {DateTimeStyle.DEFAULT_YYYY_MM_DD_HH_MM_SS, DateTimeStyle.DEFAULT_YYYY_MM_DD, DateTimeStyle.DEFAULT_YYYYMMDDHHMMSS};
+
+    private static final String[] ZONES = {"UTC", "Asia/Shanghai", "Asia/Kolkata", "America/New_York", "America/Sao_Paulo", "America/Havana"};
+
+    @Test
+    public void formatSameAsFastDateFormat() {
+        Random random = new Random(32);
+        char[] buffer = new char[CachedDateFormatter.MAX_LENGTH + 3];
+        for (String zone : ZONES) {
+            TimeZone timeZone = TimeZone.getTimeZone(zone);
+            for (String pattern : PATTERNS) {
+                CachedDateFormatter formatter = CachedDateFormatter.create(pattern, timeZone);
+                FastDateFormat fastDateFormat = FastDateFormat.getInstance(pattern, timeZone);
+                SimpleDateFormat simpleDateFormat = new SimpleDateFormat(pattern);
+                simpleDateFormat.setTimeZone(timeZone);
+                long millis = 0;
+                for (int i = 0; i < 3000; i++) {
+                    if (i % 3 == 0) {
+                        // 覆盖公元前、儒略历及五位年份
+                        millis = random.nextLong() % 400000000000000L;
+                    } else if (i % 3 == 1) {
+                        millis = (long) (random.nextDouble() * 4000000000000L) - 2000000000000L;
+                    } else {
+                        // 小步前进，命中当天缓存及跨天
+                        millis += random.nextInt(7200000);
+                    }
+                    String expected = fastDateFormat.format(millis);
+                    String message = zone + " " + pattern + " " + millis;
+                    Assert.assertEquals(message, expected, simpleDateFormat.format(new Date(millis)));
+                    Assert.assertEquals(message, expected, formatter.format(millis));
+                    int length = formatter.format(millis, buffer, 3);
+                    Assert.assertEquals(message, expected, new String(buffer, 3, length));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void followDefaultTimeZone() {
+        TimeZone original = TimeZone.getDefault();
+        try {
+            long millis = 1548072000990L;
+            for (String pattern : PATTERNS) {
+                CachedDateFormatter formatter = CachedDateFormatter.getInstance(pattern);
+                for (String zone : ZONES) {
+                    TimeZone.setDefault(TimeZone.getTimeZone(zone));
+                    Assert.assertEquals(zone, DateUtils.format(new Date(millis), pattern), formatter.format(millis));
+                    Assert.assertEquals(zone, DateUtils.format(new Date(millis + 1000), pattern), formatter.format(millis + 1000));
+                }
+            }
+        } finally {
+            TimeZone.setDefault(original);
+        }
+    }
+
+    @Test
+    public void localDateTimeSameAsDateTimeFormatter() {
+        Random random = new Random(33);
+        char[] buffer = new char[CachedDateFormatter.MAX_LENGTH];
+        for (String pattern : PATTERNS) {
+            CachedDateFormatter formatter = CachedDateFormatter.create(pattern, null);
+            DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern(pattern);
+            for (int i = 0; i < 3000; i++) {
+                long epochSecond = i % 2 == 0 ? random.nextLong() % 400000000000L : (long) (random.nextDouble() * 4000000000L);
+                LocalDateTime localDateTime = LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+                String message = pattern + " " + localDateTime;
+                int length = formatter.format(localDateTime, buffer, 0);
+                Assert.assertEquals(message, dateTimeFormatter.format(localDateTime), new String(buffer, 0, length));
+                LocalDate localDate = localDateTime.toLocalDate();
+                length = formatter.format(localDate, buffer, 0);
+                Assert.assertEquals(message, dateTimeFormatter.format(localDate.atStartOfDay()), new String(buffer, 0, length));
+            }
+        }
+    }
+
+    @Test
+    public void unsupportedPattern() {
+        Assert.assertNull(CachedDateFormatter.getInstance("yyyy/MM/dd"));
+        Assert.assertNull(CachedDateFormatter.getInstance(null));
+    }
+}
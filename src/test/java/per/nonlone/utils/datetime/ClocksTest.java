@@ -0,0 +1,61 @@
+package per.nonlone.utils.datetime;
+
+import org.apache.commons.lang3.time.FastDateFormat;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.TimeZone;
+
+public class ClocksTest {
+
+    @After
+    public void reset() {
+        Clocks.setDefault(null);
+    }
+
+    @Test
+    public void settableClock() {
+        SettableMillisClock clock = new SettableMillisClock(1546300800123L);
+        Clocks.setDefault(clock);
+        Assert.assertEquals(FastDateFormat.getInstance(DateTimeStyle.DEFAULT_YYYYMMDDHHMMSS).format(clock.currentTimeMillis()),
+                DateUtils.currentDateFormat(DateTimeStyle.DEFAULT_YYYYMMDDHHMMSS));
+        String text = DateUtils.currentDateFormat(DateTimeStyle.DEFAULT_DDHHMMSS);
+        clock.advance(500);
+        Assert.assertSame(text, DateUtils.currentDateFormat(DateTimeStyle.DEFAULT_DDHHMMSS));
+        clock.advance(500);
+        Assert.assertEquals(FastDateFormat.getInstance(DateTimeStyle.DEFAULT_DDHHMMSS).format(clock.currentTimeMillis()),
+                DateUtils.currentDateFormat(DateTimeStyle.DEFAULT_DDHHMMSS));
+        Assert.assertEquals(DayBoundaryCalculator.getDefaultInstance().startOfDay(clock.currentTimeMillis()),
+                DateUtils.getTodayStartTime().getTime());
+    }
+
+    @Test
+    public void followsDefaultTimeZone() {
+        TimeZone defaultZone = TimeZone.getDefault();
+        SettableMillisClock clock = new SettableMillisClock(1546300800123L);
+        Clocks.setDefault(clock);
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("Asia/Shanghai"));
+            Assert.assertEquals("20190101080000", DateUtils.currentDateFormat(DateTimeStyle.DEFAULT_YYYYMMDDHHMMSS));
+            TimeZone.setDefault(TimeZone.getTimeZone("America/New_York"));
+            Assert.assertEquals("20181231190000", DateUtils.currentDateFormat(DateTimeStyle.DEFAULT_YYYYMMDDHHMMSS));
+            Assert.assertEquals("31190000", DateUtils.currentDateFormat(DateTimeStyle.DEFAULT_DDHHMMSS));
+        } finally {
+            TimeZone.setDefault(defaultZone);
+        }
+    }
+
+    @Test
+    public void cachedClock() throws InterruptedException {
+        CachedMillisClock clock = new CachedMillisClock(1);
+        try {
+            long first = clock.currentTimeMillis();
+            Thread.sleep(20);
+            Assert.assertTrue(clock.currentTimeMillis() > first);
+            Assert.assertTrue(Math.abs(System.currentTimeMillis() - clock.currentTimeMillis()) < 1000);
+        } finally {
+            clock.shutdown();
+        }
+    }
+}
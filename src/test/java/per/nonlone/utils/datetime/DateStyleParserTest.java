@@ -0,0 +1,36 @@
+package per.nonlone.utils.datetime;
+
+import org.apache.commons.lang3.ArrayUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Date;
+
+public class DateStyleParserTest {
+
+    @Test
+    public void parseSameAsPatterns() throws Exception {
+        String[] patterns = ArrayUtils.addAll(ArrayUtils.addAll(DateTimeStyle.parsePatterns, DateTimeStyle.parsePatternsHyphen), DateTimeStyle.parsePatternsSlash);
+        String[] sources = {
+                "20190121083015", "20190121", "2019年01月21日", "2019.01.2108:30:15", "201901", "2019年01月", "2019",
+                "2019年1月", "2019年01月21", "2019-01-21 08:30:15", "2019-01-21 08:30", "2019-01-21", "2019-01",
+                "2019-1-21", "2019-01-1", "2019-1-1 08:30:15", "2019-01-1 08:30:15", "2019-1-1", "2019-1-21 08:30:15",
+                "2019-01-2108:30:15", "2019/01/21 08:30:15", "2019/01/21 08:30", "2019/01/21", "2020-02-29 23:59:59"
+        };
+        for (String source : sources) {
+            Date expected = DateUtils.parseDate(source, patterns);
+            Assert.assertEquals(source, expected, DateStyleParser.parse(source));
+        }
+    }
+
+    @Test
+    public void parseInvalid() {
+        String[] sources = {null, "", "abc", "2019-13-01", "2019-02-30", "2019/01", "2019-01-21 25:00", "2019.01.21", "201901211"};
+        for (String source : sources) {
+            Assert.assertEquals(source, DateStyleParser.INVALID, DateStyleParser.parseMillis(source));
+        }
+        long[] millis = DateStyleParser.parseMillis(new String[]{"2019-01-21", "bad"});
+        Assert.assertEquals(DateStyleParser.parse("20190121").getTime(), millis[0]);
+        Assert.assertEquals(DateStyleParser.INVALID, millis[1]);
+    }
+}
@@ -0,0 +1,41 @@
+package per.nonlone.utils.datetime;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Random;
+
+public class DayBoundaryCalculatorTest {
+
+    @Test
+    public void boundarySameAsJavaTime() {
+        Random random = new Random(34);
+        for (String zone : new String[]{"UTC", "Asia/Shanghai", "America/New_York", "America/Sao_Paulo", "America/Havana"}) {
+            ZoneId zoneId = ZoneId.of(zone);
+            DayBoundaryCalculator calculator = DayBoundaryCalculator.getInstance(zoneId);
+            long[] millis = new long[2000];
+            for (int i = 0; i < millis.length; i++) {
+                millis[i] = (long) (random.nextDouble() * 2000000000000L);
+                LocalDate date = Instant.ofEpochMilli(millis[i]).atZone(zoneId).toLocalDate();
+                Assert.assertEquals(zone, date.atStartOfDay(zoneId).toInstant().toEpochMilli(), calculator.startOfDay(millis[i]));
+                Assert.assertEquals(zone, date.plusDays(1).atStartOfDay(zoneId).toInstant().toEpochMilli() - 1, calculator.endOfDay(millis[i]));
+                Assert.assertEquals(zone, date.with(DayOfWeek.MONDAY).atStartOfDay(zoneId).toInstant().toEpochMilli(), calculator.startOfWeek(millis[i]));
+                Assert.assertEquals(zone, date.withDayOfMonth(1).atStartOfDay(zoneId).toInstant().toEpochMilli(), calculator.startOfMonth(millis[i]));
+            }
+            int[] epochDays = calculator.toEpochDays(millis);
+            for (int i = 0; i < millis.length; i++) {
+                Assert.assertEquals(zone, Instant.ofEpochMilli(millis[i]).atZone(zoneId).toLocalDate().toEpochDay(), epochDays[i]);
+            }
+        }
+    }
+
+    @Test
+    public void todayStartTime() {
+        Assert.assertTrue(DateUtils.getTodayStartTime().before(DateUtils.getTodayEndTime()));
+        Assert.assertEquals(DateUtils.getStartTime(DateUtils.getTodayEndTime()), DateUtils.getTodayStartTime());
+    }
+}
@@ -0,0 +1,81 @@
+package per.nonlone.utils.digest;
+
+import org.junit.Assert;
+import org.junit.Test;
+import per.nonlone.utils.encode.HexUtils;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public class DigestTest {
+
+    @Test
+    public void vectors() throws Exception {
+        byte[] abc = "abc".getBytes("utf-8");
+        Assert.assertEquals("900150983CD24FB0D6963F7D28E17F72", MD5Utils.md5("abc"));
+        Assert.assertEquals("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad", HexUtils.encode(SHAUtils.sha256(abc)));
+        Assert.assertEquals("ddaf35a193617abacc417349ae20413112e6fa4e89a97ea20a9eeee64b55d39a"
+                + "2192992a274fc1a836ba3c23a3feebbd454d4423643ce80e2a9ac94fa54ca49f", HexUtils.encode(SHAUtils.sha512(abc)));
+        Assert.assertArrayEquals(SHAUtils.sha1(abc), SHAUtils.sha1(new ByteArrayInputStream(abc)));
+    }
+
+    @Test
+    public void streaming() throws Exception {
+        byte[] content = new byte[DigestEngine.BUFFER_SIZE * 5 + 13];
+        new Random(46).nextBytes(content);
+        byte[] expected = SHAUtils.sha256(content);
+        Path path = Files.createTempFile("digest", ".bin");
+        try {
+            Files.write(path, content);
+            Assert.assertArrayEquals(expected, SHAUtils.sha256(path));
+            Assert.assertArrayEquals(expected, SHAUtils.sha256(new ByteArrayInputStream(content)));
+            ByteBuffer direct = ByteBuffer.allocateDirect(content.length);
+            direct.put(content).flip();
+            Assert.assertArrayEquals(expected, SHAUtils.sha256(direct));
+            Assert.assertArrayEquals(MD5Utils.md5(content), MD5Utils.md5(path));
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void treeHash() throws Exception {
+        byte[] content = new byte[1000];
+        new Random(47).nextBytes(content);
+        // 按格式手工计算
+        MessageDigest root = MessageDigest.getInstance("SHA-256");
+        root.update((byte) 1);
+        root.update(ByteBuffer.allocate(12).putInt(300).putLong(content.length).array());
+        for (int offset = 0; offset < content.length; offset += 300) {
+            MessageDigest leaf = MessageDigest.getInstance("SHA-256");
+            leaf.update((byte) 0);
+            leaf.update(content, offset, Math.min(300, content.length - offset));
+            root.update(leaf.digest());
+        }
+        byte[] expected = root.digest();
+        Assert.assertArrayEquals(expected, TreeHash.digest(content, "SHA-256", 300));
+
+        Path path = Files.createTempFile("tree", ".bin");
+        try {
+            Files.write(path, Arrays.copyOf(content, 450));
+            TreeHash.State state = TreeHash.digest(path, "SHA-256", 300, ForkJoinPool.commonPool());
+            Assert.assertEquals(2, state.getChunkCount());
+            Files.write(path, Arrays.copyOfRange(content, 450, content.length), StandardOpenOption.APPEND);
+            TreeHash.State resumed = TreeHash.resume(TreeHash.State.fromBytes(state.toBytes()), path, ForkJoinPool.commonPool());
+            Assert.assertArrayEquals(expected, resumed.getRoot());
+            resumed.getRoot()[0] ^= 1;
+            Assert.assertArrayEquals(expected, resumed.getRoot());
+            Assert.assertArrayEquals(expected, TreeHash.digest(path, "SHA-256", 300, null).getRoot());
+            Assert.assertArrayEquals(TreeHash.digest(content, "SHA-256", TreeHash.DEFAULT_CHUNK_SIZE), SHAUtils.sha256Tree(path));
+        } finally {
+            Files.delete(path);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package per.nonlone.utils.encode;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.Random;
+
+public class Base64UtilsTest {
+
+    @Test
+    public void codec() throws Exception {
+        Random random = new Random(50);
+        for (int length = 0; length < 40; length++) {
+            byte[] input = new byte[length];
+            random.nextBytes(input);
+            String expected = Base64.getEncoder().encodeToString(input);
+            ByteBuffer encoded = ByteBuffer.allocate((int) Base64Codec.encodedLength(length));
+            Base64Codec.encode(ByteBuffer.wrap(input), encoded, true);
+            Assert.assertEquals(expected, new String(encoded.array(), StandardCharsets.US_ASCII));
+
+            ByteBuffer decoded = ByteBuffer.allocate(length + 3);
+            Base64Codec.decode(ByteBuffer.wrap(expected.getBytes(StandardCharsets.US_ASCII)), decoded, true);
+            decoded.flip();
+            Assert.assertEquals(ByteBuffer.wrap(input), decoded);
+
+            String unpadded = expected.replace("=", "");
+            decoded.clear();
+            Base64Codec.decode(ByteBuffer.wrap(unpadded.getBytes(StandardCharsets.US_ASCII)), decoded, true);
+            decoded.flip();
+            Assert.assertEquals(ByteBuffer.wrap(input), decoded);
+        }
+        Path path = Files.createTempFile("base64", ".bin");
+        try {
+            for (String illegal : new String[]{"YQ=", "Y", "YQ==YQ==", "Y!==", "ŁQ=="}) {
+                try {
+                    Base64Utils.decodeToFile(path.toString(), illegal);
+                    Assert.fail(illegal);
+                } catch (IllegalArgumentException e) {
+                    // expected
+                }
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void streaming() throws Exception {
+        byte[] content = new byte[Base64Utils.BUFFER_SIZE * 3 + 5];
+        new Random(51).nextBytes(content);
+        String expected = Base64.getEncoder().encodeToString(content);
+        Assert.assertArrayEquals(content, Base64Utils.decodeFromString(expected));
+
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+        Assert.assertEquals(content.length, Base64Utils.encode(new ByteArrayInputStream(content), encoded));
+        Assert.assertEquals(expected, encoded.toString("ISO-8859-1"));
+        ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+        Base64Utils.decode(new ByteArrayInputStream(encoded.toByteArray()), decoded);
+        Assert.assertArrayEquals(content, decoded.toByteArray());
+
+        Path source = Files.createTempFile("base64", ".bin");
+        Path target = Files.createTempFile("base64", ".txt");
+        Path restored = Files.createTempFile("base64", ".bin");
+        try {
+            Files.write(source, content);
+            Base64Utils.encodeFile(source, target);
+            Assert.assertEquals(expected, new String(Files.readAllBytes(target), StandardCharsets.US_ASCII));
+            Base64Utils.decodeFile(target, restored);
+            Assert.assertArrayEquals(content, Files.readAllBytes(restored));
+            Base64Utils.decodeToFile(restored.toString(), expected);
+            Assert.assertArrayEquals(content, Files.readAllBytes(restored));
+            Assert.assertEquals(expected, Base64Utils.encodeFromFilePath(source.toString()));
+
+            decoded.reset();
+            Base64Utils.decode(Channels.newChannel(new ByteArrayInputStream(expected.getBytes(StandardCharsets.US_ASCII))), Channels.newChannel(decoded));
+            Assert.assertArrayEquals(content, decoded.toByteArray());
+        } finally {
+            Files.delete(source);
+            Files.delete(target);
+            Files.delete(restored);
+        }
+    }
+
+    @Test
+    public void decodeToFileKeepsTargetOnFailure() throws Exception {
+        Path directory = Files.createTempDirectory("base64");
+        try {
+            byte[] content = "base64 content".getBytes(StandardCharsets.UTF_8);
+            String base64 = Base64.getEncoder().encodeToString(content);
+            Path target = directory.resolve("missing").resolve("data.bin");
+            Base64Utils.decodeToFile(target.toString(), base64);
+            Assert.assertArrayEquals(content, Files.readAllBytes(target));
+
+            // 非法字符位于第一个缓冲块之后，此前已有部分数据解码
+            StringBuilder illegal = new StringBuilder();
+            while (illegal.length() < Base64Utils.BUFFER_SIZE * 2) {
+                illegal.append("QUJD");
+            }
+            illegal.append('!');
+            try {
+                Base64Utils.decodeToFile(target.toString(), illegal.toString());
+                Assert.fail();
+            } catch (IllegalArgumentException e) {
+                // expected
+            }
+            Assert.assertArrayEquals(content, Files.readAllBytes(target));
+
+            Path source = directory.resolve("illegal.txt");
+            Files.write(source, illegal.toString().getBytes(StandardCharsets.US_ASCII));
+            try {
+                Base64Utils.decodeFile(source, target);
+                Assert.fail();
+            } catch (IllegalArgumentException e) {
+                // expected
+            }
+            Assert.assertArrayEquals(content, Files.readAllBytes(target));
+            Assert.assertEquals(1, target.getParent().toFile().list().length);
+        } finally {
+            FileUtils.deleteDirectory(directory.toFile());
+        }
+    }
+}
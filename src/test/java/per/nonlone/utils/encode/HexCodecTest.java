@@ -0,0 +1,47 @@
+package per.nonlone.utils.encode;
+
+import org.apache.commons.codec.binary.Hex;
+import org.junit.Assert;
+import org.junit.Test;
+import per.nonlone.utils.digest.MD5Utils;
+
+import java.util.Random;
+
+public class HexCodecTest {
+
+    @Test
+    public void encodeDecode() {
+        byte[] input = new byte[256];
+        new Random(48).nextBytes(input);
+        String lower = Hex.encodeHexString(input);
+        Assert.assertEquals(lower, HexCodec.encodeLower(input));
+        Assert.assertEquals(lower.toUpperCase(), HexCodec.encodeUpper(input));
+        Assert.assertEquals(lower, HexUtils.encode(input));
+        Assert.assertArrayEquals(input, HexCodec.decode(lower.toUpperCase()));
+        Assert.assertArrayEquals(input, HexUtils.decode(lower));
+        Assert.assertEquals("900150983CD24FB0D6963F7D28E17F72", MD5Utils.md5("abc"));
+
+        Assert.assertNull(HexCodec.decode("abc"));
+        Assert.assertNull(HexCodec.decode("0g"));
+        Assert.assertNull(HexCodec.decode("٠١"));
+        Assert.assertNull(HexUtils.decode("zz"));
+        Assert.assertFalse(HexCodec.isHex("0x"));
+        Assert.assertTrue(HexCodec.isHex("0aF9"));
+    }
+
+    @Test
+    public void bulk() {
+        byte[][] inputs = {{0x01, (byte) 0xAB}, {}, {(byte) 0xFF}};
+        char[] output = new char[8];
+        Assert.assertEquals(6, HexCodec.encodeAll(inputs, output, 1, false));
+        Assert.assertEquals("01abff", new String(output, 1, 6));
+        Assert.assertArrayEquals(new String[]{"01AB", "", "FF"}, HexCodec.encodeEach(inputs, true));
+        byte[] bytes = new byte[4];
+        Assert.assertEquals(4, HexCodec.encode(inputs[0], 0, 2, bytes, 0, true));
+        Assert.assertEquals("01AB", new String(bytes, 0, 4));
+        byte[] decoded = new byte[3];
+        Assert.assertEquals(2, HexCodec.decode("xx01abxx", 2, 6, decoded, 1));
+        Assert.assertEquals((byte) 0xAB, decoded[2]);
+        Assert.assertEquals(-1, HexCodec.decode("0", 0, 1, decoded, 0));
+    }
+}
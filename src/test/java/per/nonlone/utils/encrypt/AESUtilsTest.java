@@ -0,0 +1,133 @@
+package per.nonlone.utils.encrypt;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.crypto.AEADBadTagException;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+public class AESUtilsTest {
+
+    @Test
+    public void roundTrip() throws Exception {
+        String content = "hello 你好";
+        Assert.assertEquals(content, new String(AESUtils.aesDecrypt(AESUtils.aesEncrypt(content, "key"), "key"), "utf-8"));
+        Assert.assertArrayEquals(AESUtils.aesEncrypt(content, "key"), AESUtils.aesEncrypt(content, "key"));
+        String base64 = AESUtils.aesEncryptWithECBAndPKCS7ToBase64(content, "0123456789abcdef");
+        Assert.assertEquals(content, AESUtils.aesDecryptWithECBAndPKCS7FromBase64(base64, "0123456789abcdef"));
+        Assert.assertSame(AESEngine.derivedKey("key"), AESEngine.derivedKey("key"));
+    }
+
+    @Test
+    public void gcm() throws Exception {
+        byte[] encrypted = AESUtils.aesEncryptWithGCM("hello", "key");
+        Assert.assertEquals("hello", new String(AESUtils.aesDecryptWithGCM(encrypted, "key"), "utf-8"));
+        encrypted[encrypted.length - 1] ^= 1;
+        try {
+            AESUtils.aesDecryptWithGCM(encrypted, "key");
+            Assert.fail();
+        } catch (AEADBadTagException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void streams() throws Exception {
+        byte[] content = new byte[AESStreams.BUFFER_SIZE * 3 + 7];
+        new Random(41).nextBytes(content);
+        SecretKeySpec secretKeySpec = AESEngine.derivedKey("key");
+        for (String transformation : new String[]{AESEngine.TRANSFORMATION_DEFAULT, AESStreams.TRANSFORMATION_GCM, "AES/CTR/NoPadding"}) {
+            ByteArrayOutputStream encrypted = new ByteArrayOutputStream();
+            AESStreams.encrypt(new ByteArrayInputStream(content), encrypted, secretKeySpec, transformation);
+            ByteArrayOutputStream decrypted = new ByteArrayOutputStream();
+            AESStreams.decrypt(Channels.newChannel(new ByteArrayInputStream(encrypted.toByteArray())), Channels.newChannel(decrypted), secretKeySpec, transformation);
+            Assert.assertArrayEquals(transformation, content, decrypted.toByteArray());
+            decrypted.reset();
+            AESStreams.decrypt(new ByteArrayInputStream(encrypted.toByteArray()), decrypted, secretKeySpec, transformation);
+            Assert.assertArrayEquals(transformation, content, decrypted.toByteArray());
+        }
+    }
+
+    @Test
+    public void chunkedContainer() throws Exception {
+        byte[] content = new byte[1000];
+        new Random(42).nextBytes(content);
+        SecretKeySpec secretKeySpec = AESEngine.derivedKey("key");
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        Path source = Files.createTempFile("chunked", ".plain");
+        Path encrypted = Files.createTempFile("chunked", ".aesc");
+        Path decrypted = Files.createTempFile("chunked", ".plain");
+        try {
+            byte[] container = AESChunkedContainer.encrypt(content, secretKeySpec, 64, executorService);
+            Assert.assertEquals(AESChunkedContainer.HEADER_LENGTH + content.length
+                    + 16 * (AESChunkedContainer.CHUNK_HEADER_LENGTH + AESChunkedContainer.TAG_LENGTH), container.length);
+            Assert.assertArrayEquals(content, AESChunkedContainer.decrypt(container, secretKeySpec, executorService));
+            Assert.assertArrayEquals(new byte[0], AESChunkedContainer.decrypt(AESChunkedContainer.encrypt(new byte[0], secretKeySpec, 64, null), secretKeySpec, null));
+            // 交换前两块，块头序号不符
+            int chunkLength = AESChunkedContainer.CHUNK_HEADER_LENGTH + 64 + AESChunkedContainer.TAG_LENGTH;
+            byte[] swapped = container.clone();
+            System.arraycopy(container, AESChunkedContainer.HEADER_LENGTH, swapped, AESChunkedContainer.HEADER_LENGTH + chunkLength, chunkLength);
+            System.arraycopy(container, AESChunkedContainer.HEADER_LENGTH + chunkLength, swapped, AESChunkedContainer.HEADER_LENGTH, chunkLength);
+            try {
+                AESChunkedContainer.decrypt(swapped, secretKeySpec, executorService);
+                Assert.fail();
+            } catch (GeneralSecurityException e) {
+                Assert.assertFalse(e instanceof AEADBadTagException);
+            }
+            container[container.length - 1] ^= 1;
+            try {
+                AESChunkedContainer.decrypt(container, secretKeySpec, executorService);
+                Assert.fail();
+            } catch (AEADBadTagException e) {
+                // expected
+            }
+
+            Files.write(source, content);
+            AESChunkedContainer.Header header = AESChunkedContainer.encryptFile(source, encrypted, secretKeySpec, 100, executorService);
+            Assert.assertEquals(10, header.getChunkCount());
+            byte[] noncePrefix = header.getNoncePrefix();
+            noncePrefix[0] ^= 1;
+            Assert.assertFalse(Arrays.equals(noncePrefix, header.getNoncePrefix()));
+            AESChunkedContainer.decryptFile(encrypted, decrypted, secretKeySpec, executorService);
+            Assert.assertArrayEquals(content, Files.readAllBytes(decrypted));
+            try (FileChannel fileChannel = FileChannel.open(encrypted)) {
+                byte[] chunk = AESChunkedContainer.decryptChunk(fileChannel, secretKeySpec, 3);
+                Assert.assertArrayEquals(Arrays.copyOfRange(content, 300, 400), chunk);
+            }
+
+            // 认证失败时目标文件保持原样，不留下部分明文或临时文件
+            byte[] tampered = Files.readAllBytes(encrypted);
+            tampered[tampered.length - 1] ^= 1;
+            Files.write(encrypted, tampered);
+            Files.write(decrypted, new byte[]{1, 2, 3});
+            try {
+                AESChunkedContainer.decryptFile(encrypted, decrypted, secretKeySpec, executorService);
+                Assert.fail();
+            } catch (AEADBadTagException e) {
+                // expected
+            }
+            Assert.assertArrayEquals(new byte[]{1, 2, 3}, Files.readAllBytes(decrypted));
+            try (Stream<Path> files = Files.list(decrypted.getParent())) {
+                String prefix = decrypted.getFileName().toString();
+                Assert.assertFalse(files.anyMatch(path -> path.getFileName().toString().startsWith(prefix) && !path.equals(decrypted)));
+            }
+        } finally {
+            executorService.shutdown();
+            Files.delete(source);
+            Files.delete(encrypted);
+            Files.delete(decrypted);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package per.nonlone.utils.encrypt;
+
+import org.junit.Assert;
+import org.junit.Test;
+import per.nonlone.utils.encode.Base64Utils;
+
+import java.security.KeyPair;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class RSAUtilsTest {
+
+    @Test
+    public void registry() throws Exception {
+        KeyPair keyPair = RSAUtils.getRSAKeyPair();
+        String publicKey = Base64Utils.encodeFromByteArray(keyPair.getPublic().getEncoded());
+        String privateKey = Base64Utils.encodeFromByteArray(keyPair.getPrivate().getEncoded());
+        byte[] data = "hello 你好".getBytes("utf-8");
+
+        String sign = RSAUtils.sign(data, privateKey);
+        Assert.assertTrue(RSAUtils.verify(data, publicKey, sign));
+        Assert.assertFalse(RSAUtils.verify("hello".getBytes("utf-8"), publicKey, sign));
+        Assert.assertArrayEquals(data, RSAUtils.decryptByPrivateKey(RSAUtils.encryptByPublicKey(data, publicKey), privateKey));
+        Assert.assertSame(RSAKeyRegistry.publicKey(publicKey), RSAKeyRegistry.publicKey(publicKey));
+        Assert.assertSame(RSAKeyRegistry.publicKey(publicKey), RSAKeyRegistry.publicKey(pem("PUBLIC KEY", publicKey)));
+        Assert.assertSame(RSAKeyRegistry.privateKey(privateKey), RSAKeyRegistry.privateKey(pem("PRIVATE KEY", privateKey)));
+        Assert.assertTrue(RSAUtils.verify(data, " " + publicKey + "\n", sign));
+
+        String keyId = RSAKeyRegistry.registerPublicKey(publicKey);
+        Assert.assertEquals(64, keyId.length());
+        Assert.assertEquals(keyPair.getPublic(), RSAKeyRegistry.getPublicKey(keyId));
+        Assert.assertNull(RSAKeyRegistry.getPrivateKey(keyId));
+        RSAKeyRegistry.unregister(keyId);
+        Assert.assertNull(RSAKeyRegistry.getPublicKey(keyId));
+    }
+
+    @Test
+    public void blockEngine() throws Exception {
+        KeyPair keyPair = RSAUtils.getRSAKeyPair(2048);
+        Assert.assertEquals(256, RSABlockEngine.modulusLength(keyPair.getPublic()));
+        Assert.assertEquals(245, RSABlockEngine.maxPlainLength(keyPair.getPublic(), RSABlockEngine.TRANSFORMATION_DEFAULT));
+        Assert.assertEquals(214, RSABlockEngine.maxPlainLength(keyPair.getPublic(), RSABlockEngine.TRANSFORMATION_OAEP));
+        byte[] data = new byte[245 * 20 + 3];
+        new Random(44).nextBytes(data);
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            for (String transformation : new String[]{RSABlockEngine.TRANSFORMATION_DEFAULT, RSABlockEngine.TRANSFORMATION_OAEP}) {
+                byte[] encrypted = RSABlockEngine.encrypt(data, keyPair.getPublic(), transformation, executorService);
+                Assert.assertArrayEquals(transformation, data, RSABlockEngine.decrypt(encrypted, keyPair.getPrivate(), transformation, executorService));
+                Assert.assertArrayEquals(transformation, data, RSABlockEngine.decrypt(encrypted, keyPair.getPrivate(), transformation, null));
+            }
+            String publicKey = Base64Utils.encodeFromByteArray(keyPair.getPublic().getEncoded());
+            String privateKey = Base64Utils.encodeFromByteArray(keyPair.getPrivate().getEncoded());
+            Assert.assertArrayEquals(data, RSAUtils.decryptByPrivateKey(RSAUtils.encryptByPublicKey(data, publicKey), privateKey));
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void batch() throws Exception {
+        KeyPair keyPair = RSAUtils.getRSAKeyPair();
+        String publicKeyId = RSAKeyRegistry.register(keyPair.getPublic());
+        String privateKeyId = RSAKeyRegistry.register(keyPair.getPrivate());
+        List<RSABatch.SignItem> signItemList = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            signItemList.add(new RSABatch.SignItem(("message" + i).getBytes("utf-8"), privateKeyId));
+        }
+        signItemList.add(new RSABatch.SignItem("unknown".getBytes("utf-8"), "unknown"));
+        String[] signs = RSABatch.sign(signItemList);
+        Assert.assertNull(signs[300]);
+
+        List<RSABatch.VerifyItem> verifyItemList = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            String sign = i == 7 ? signs[8] : signs[i];
+            verifyItemList.add(RSABatch.VerifyItem.ofBase64(signItemList.get(i).getData(), sign, i == 9 ? privateKeyId : publicKeyId));
+        }
+        verifyItemList.add(RSABatch.VerifyItem.ofBase64("bad".getBytes("utf-8"), "@@", publicKeyId));
+        BitSet expected = new BitSet();
+        expected.set(0, 300);
+        expected.clear(7);
+        expected.clear(9);
+        Assert.assertEquals(expected, RSABatch.verify(verifyItemList));
+        Assert.assertEquals(expected, RSABatch.verify(verifyItemList, RSAUtils.SIGNATURE_ALGORITHM, null));
+        Assert.assertEquals(expected, RSABatch.verifyAsync(verifyItemList, RSAUtils.SIGNATURE_ALGORITHM, RSABatch.getDefaultExecutor()).get());
+        RSAKeyRegistry.unregister(publicKeyId);
+        RSAKeyRegistry.unregister(privateKeyId);
+    }
+
+    private static String pem(String type, String base64) {
+        StringBuilder sb = new StringBuilder("-----BEGIN ").append(type).append("-----\r\n");
+        for (int i = 0; i < base64.length(); i += 64) {
+            sb.append(base64, i, Math.min(base64.length(), i + 64)).append("\r\n");
+        }
+        return sb.append("-----END ").append(type).append("-----\n").toString();
+    }
+}
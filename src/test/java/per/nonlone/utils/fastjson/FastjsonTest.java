@@ -1,7 +1,11 @@
 package per.nonlone.utils.fastjson;
 
+import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.List;
+import java.util.Map;
+
 public class FastjsonTest {
 
     @Test
@@ -20,5 +24,58 @@ public class FastjsonTest {
         System.out.println(JSON.toJSONString(JSON.parseObjectRecurrence(data)));
     }
 
+    @Test
+    public void parseObjectRecurrenceToClass() {
+        String data = "{\"code\":\"200\",\"data\":\"{\\\"idNum\\\":\\\"440882199407093028\\\"}\","
+                + "\"list\":\"[{\\\"a\\\":1}]\",\"text\":\"{not json\"}";
+        Response response = JSON.parseObjectRecurrence(data, Response.class);
+        Assert.assertEquals("200", response.getCode());
+        Assert.assertEquals("440882199407093028", response.getData().get("idNum"));
+        Assert.assertEquals(1, response.getList().size());
+        Assert.assertEquals("{not json", response.getText());
+    }
+
+    public static class Response {
+
+        private String code;
+
+        private Map<String, Object> data;
+
+        private List<Map<String, Object>> list;
+
+        private String text;
+
+        public String getCode() {
+            return code;
+        }
+
+        public void setCode(String code) {
+            this.code = code;
+        }
+
+        public Map<String, Object> getData() {
+            return data;
+        }
+
+        public void setData(Map<String, Object> data) {
+            this.data = data;
+        }
+
+        public List<Map<String, Object>> getList() {
+            return list;
+        }
+
+        public void setList(List<Map<String, Object>> list) {
+            this.list = list;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        public void setText(String text) {
+            this.text = text;
+        }
+    }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,96 @@
+package per.nonlone.utils.fastjson.filter;
+
+import com.alibaba.fastjson.JSON;
+import org.junit.Assert;
+import org.junit.Test;
+import per.nonlone.utils.fastjson.annotattion.NoKeyFilter;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+public class RegExKeyFilterTest {
+
+    @Test
+    public void firstMatchSameAsPatternLoop() {
+        String[] regs = {"(?i)^ID", "card$", "(ph)(one)", "a.c", "^x+$", "(?<=b)d", "name"};
+        Map<String, RegExKeyFilter.KeyValueHandler> handlerMap = new LinkedHashMap<>();
+        for (String reg : regs) {
+            handlerMap.put(reg, value -> reg);
+        }
+        RegExKeyFilter filter = new RegExKeyFilter(handlerMap);
+        String alphabet = "abcdeinoprxCDhmI";
+        Random random = new Random(29);
+        Map<String, Object> map = new HashMap<>();
+        for (int k = 0; k < 20000; k++) {
+            StringBuilder sb = new StringBuilder();
+            for (int i = random.nextInt(10); i > 0; i--) {
+                sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String name = sb.toString();
+            Object expected = "value";
+            for (String reg : regs) {
+                if (Pattern.compile(reg).matcher(name).find()) {
+                    expected = reg;
+                    break;
+                }
+            }
+            Assert.assertEquals(name, expected, filter.process(map, name, "value"));
+            Assert.assertEquals(name, expected, filter.process(map, name, "value"));
+        }
+    }
+
+    @Test
+    public void sameNamedGroupInDifferentPatterns() {
+        Map<String, RegExKeyFilter.KeyValueHandler> handlerMap = new LinkedHashMap<>();
+        handlerMap.put("(?<key>phone)", value -> "phone");
+        handlerMap.put("(?<key>card)", value -> "card");
+        RegExKeyFilter filter = new RegExKeyFilter(handlerMap);
+        Map<String, Object> map = new HashMap<>();
+        Assert.assertEquals("phone", filter.process(map, "mobilephone", "value"));
+        Assert.assertEquals("card", filter.process(map, "bankcard", "value"));
+        Assert.assertEquals("value", filter.process(map, "name", "value"));
+    }
+
+    @Test
+    public void noKeyFilter() {
+        Map<String, RegExKeyFilter.KeyValueHandler> handlerMap = new LinkedHashMap<>();
+        handlerMap.put("phone", value -> "***");
+        RegExKeyFilter filter = new RegExKeyFilter(handlerMap);
+        Assert.assertEquals("{\"phone\":\"***\",\"rawPhone\":\"138\"}", JSON.toJSONString(new Bean(), filter));
+        Assert.assertEquals("{\"phone\":\"138\"}", JSON.toJSONString(new IgnoredBean(), filter));
+        Map<String, Object> map = new IgnoredMap();
+        map.put("phone", "138");
+        Assert.assertEquals("{\"phone\":\"138\"}", JSON.toJSONString(map, filter));
+    }
+
+    public static class Bean {
+
+        private String phone = "138";
+
+        @NoKeyFilter
+        private String rawPhone = "138";
+
+        public String getPhone() {
+            return phone;
+        }
+
+        public String getRawPhone() {
+            return rawPhone;
+        }
+    }
+
+    @NoKeyFilter
+    public static class IgnoredBean {
+
+        public String getPhone() {
+            return "138";
+        }
+    }
+
+    @NoKeyFilter
+    public static class IgnoredMap extends HashMap<String, Object> {
+    }
+}
@@ -0,0 +1,50 @@
+package per.nonlone.utils.fastjson.serializer;
+
+import com.alibaba.fastjson.JSON;
+import com.alibaba.fastjson.serializer.SerializeConfig;
+import com.alibaba.fastjson.serializer.SerializerFeature;
+import org.junit.Assert;
+import org.junit.Test;
+import per.nonlone.utils.datetime.DateTimeStyle;
+import per.nonlone.utils.datetime.DateUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Random;
+
+public class DateSerializerTest {
+
+    @Test
+    public void writeSameAsDateUtils() {
+        Random random = new Random(32);
+        for (String pattern : new String[]{DateTimeStyle.DEFAULT_YYYY_MM_DD_HH_MM_SS, DateTimeStyle.DEFAULT_YYYYMMDDHHMMSS, "yyyy/MM/dd HH:mm"}) {
+            SerializeConfig config = config(new DateSerializer(pattern));
+            for (int i = 0; i < 2000; i++) {
+                long millis = i % 2 == 0 ? random.nextLong() % 400000000000000L : (long) (random.nextDouble() * 4000000000000L);
+                Date date = new Date(millis);
+                String expected = DateUtils.format(date, pattern);
+                Assert.assertEquals("{\"date\":\"" + expected + "\"}", JSON.toJSONString(Collections.singletonMap("date", date), config));
+                Assert.assertEquals("{'date':'" + expected + "'}", JSON.toJSONString(Collections.singletonMap("date", date), config, SerializerFeature.UseSingleQuotes));
+            }
+        }
+    }
+
+    @Test
+    public void writeJavaTime() {
+        SerializeConfig config = config(DateSerializer.instance);
+        LocalDateTime localDateTime = LocalDateTime.of(2019, 1, 21, 20, 0, 0);
+        Assert.assertEquals("{\"date\":\"2019-01-21 20:00:00\"}", JSON.toJSONString(Collections.singletonMap("date", localDateTime), config));
+        Assert.assertEquals("{'date':'2019-01-21 00:00:00'}", JSON.toJSONString(Collections.singletonMap("date", localDateTime.toLocalDate()), config, SerializerFeature.UseSingleQuotes));
+        Assert.assertEquals("{\"date\":\"+10000-01-01 00:00:00\"}", JSON.toJSONString(Collections.singletonMap("date", LocalDate.of(10000, 1, 1)), config));
+    }
+
+    private static SerializeConfig config(DateSerializer dateSerializer) {
+        SerializeConfig config = new SerializeConfig();
+        config.put(Date.class, dateSerializer);
+        config.put(LocalDateTime.class, dateSerializer);
+        config.put(LocalDate.class, dateSerializer);
+        return config;
+    }
+}
@@ -0,0 +1,83 @@
+package per.nonlone.utils.hash;
+
+import com.google.common.hash.Hashing;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+public class HashTest {
+
+    @Test
+    public void xxHash64() throws Exception {
+        Assert.assertEquals(0xEF46DB3751D8E999L, XXHash64.hash(new byte[0]));
+        Assert.assertEquals(0xD24EC4F1A98C6E5BL, XXHash64.hash("a".getBytes(StandardCharsets.US_ASCII)));
+        Assert.assertEquals(0x44BC2CF5AD770999L, XXHash64.hash("abc".getBytes(StandardCharsets.US_ASCII)));
+
+        byte[] input = new byte[1000];
+        for (int i = 0; i < input.length; i++) {
+            input[i] = (byte) (i * 31 + 7);
+        }
+        Assert.assertEquals(0x99594F4828043D35L, XXHash64.hash(input));
+        Assert.assertEquals(0x1D35ABEB1C5B7A8CL, XXHash64.hash(input, 0, 1000, 7));
+        Assert.assertEquals(0x338DACB2402DBBBFL, XXHash64.hash(input, 0, 33, 7));
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(1004);
+        direct.position(4);
+        direct.put(input).position(4);
+        Assert.assertEquals(0x99594F4828043D35L, XXHash64.hash(direct));
+        direct.order(ByteOrder.LITTLE_ENDIAN);
+        Assert.assertEquals(0x99594F4828043D35L, XXHash64.hash(direct));
+        Assert.assertEquals(4, direct.position());
+
+        String text = "你好, hash ring";
+        Assert.assertEquals(0x2AB1B05A7035DE19L, XXHash64.hash(text));
+        Assert.assertEquals(XXHash64.hash(text.getBytes(StandardCharsets.UTF_16LE)), XXHash64.hash(new StringBuilder(text)));
+
+        for (int step : new int[]{1, 5, 32, 77}) {
+            XXHash64 streaming = new XXHash64(7);
+            for (int offset = 0; offset < input.length; offset += step) {
+                streaming.update(input, offset, Math.min(step, input.length - offset));
+            }
+            Assert.assertEquals(0x1D35ABEB1C5B7A8CL, streaming.getValue());
+        }
+        Assert.assertEquals(0x99594F4828043D35L, XXHash64.hash(new ByteArrayInputStream(input), 0));
+    }
+
+    @Test
+    public void murmur3() throws Exception {
+        byte[] input = "hello".getBytes(StandardCharsets.UTF_8);
+        Assert.assertArrayEquals(Hashing.murmur3_128().hashBytes(input).asBytes(), Murmur3Hash.hash128(input));
+        Assert.assertEquals(Murmur3Hash.hash64(input), Murmur3Hash.hash64(ByteBuffer.wrap(input)));
+        Assert.assertEquals(Murmur3Hash.hash64(input), Murmur3Hash.hash(new ByteArrayInputStream(input), 0).asLong());
+        Assert.assertEquals(Murmur3Hash.hash64("hello".getBytes(StandardCharsets.UTF_16LE)), Murmur3Hash.hash64("hello"));
+    }
+
+    @Test
+    public void ring() {
+        ConsistentHashRing<String> ring = new ConsistentHashRing<>(Arrays.asList("node-a", "node-b", "node-c"));
+        Map<String, String> before = new HashMap<>();
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < 3000; i++) {
+            String node = ring.get("key" + i);
+            before.put("key" + i, node);
+            counts.merge(node, 1, Integer::sum);
+        }
+        Assert.assertEquals(3, counts.size());
+        counts.values().forEach(count -> Assert.assertTrue(count > 600));
+
+        ring.remove("node-b");
+        for (Map.Entry<String, String> entry : before.entrySet()) {
+            if (!"node-b".equals(entry.getValue())) {
+                Assert.assertEquals(entry.getValue(), ring.get(entry.getKey()));
+            }
+        }
+        Assert.assertNull(new ConsistentHashRing<String>(Arrays.asList()).get("key"));
+    }
+}
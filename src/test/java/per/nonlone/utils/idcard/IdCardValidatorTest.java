@@ -0,0 +1,81 @@
+package per.nonlone.utils.idcard;
+
+import org.junit.Assert;
+import org.junit.Test;
+import per.nonlone.utils.IdCardUtils;
+import per.nonlone.utils.datetime.AgeCalculator;
+import per.nonlone.utils.datetime.EpochDays;
+
+public class IdCardValidatorTest {
+
+    @Test
+    public void validate() {
+        IdCardInfo info = new IdCardInfo();
+        Assert.assertEquals(IdCardStatus.VALID, IdCardValidator.validate(" 11010519491231002x ", info));
+        Assert.assertEquals(11, info.getProvinceCode());
+        Assert.assertEquals(1101, info.getCityCode());
+        Assert.assertEquals(19491231, info.getBirthYearMonthDay());
+        Assert.assertEquals("F", info.getGender());
+        Assert.assertEquals('X', info.getCheckCode());
+
+        Assert.assertEquals(IdCardStatus.VALID, IdCardValidator.validate("110105491231002", info));
+        Assert.assertEquals(19491231, info.getBirthYearMonthDay());
+        Assert.assertEquals('X', info.getCheckCode());
+
+        Assert.assertEquals(IdCardStatus.EMPTY, IdCardValidator.validate(null));
+        Assert.assertEquals(IdCardStatus.BAD_LENGTH, IdCardValidator.validate("1101051949123100"));
+        Assert.assertEquals(IdCardStatus.BAD_CHARACTER, IdCardValidator.validate("11010519491231A02X"));
+        Assert.assertEquals(IdCardStatus.BAD_PROVINCE, IdCardValidator.validate("10010519491231002X"));
+        Assert.assertEquals(IdCardStatus.BAD_BIRTH_DATE, IdCardValidator.validate("11010519490231002X"));
+        Assert.assertEquals(IdCardStatus.BAD_CHECK_CODE, IdCardValidator.validate("110105194912310021"));
+    }
+
+    @Test
+    public void idCardUtils() {
+        Assert.assertTrue(IdCardUtils.validateIdCard18("11010519491231002x"));
+        Assert.assertFalse(IdCardUtils.validateIdCard18("110105194912310021"));
+        Assert.assertTrue(IdCardUtils.validateIdCard15("110105491231002"));
+        Assert.assertFalse(IdCardUtils.validateIdCard15("110105490231002"));
+        Assert.assertTrue(IdCardUtils.validateCard("110105491231002"));
+        Assert.assertTrue(IdCardUtils.isNum("0123"));
+        Assert.assertFalse(IdCardUtils.isNum("01a3"));
+        int[] digits = IdCardUtils.converCharToInt("11010519491231002".toCharArray());
+        Assert.assertEquals("x", IdCardUtils.getCheckCode18(IdCardUtils.getPowerSum(digits)));
+        Assert.assertEquals(0, IdCardUtils.getPowerSum(new int[16]));
+    }
+
+    @Test
+    public void batch() {
+        String[] idCards = {"11010519491231002x", "110105491231002", "110105194912310021", null};
+        IdCardColumns columns = IdCardBatch.process(idCards, true);
+        Assert.assertEquals(2, columns.getValidCount());
+        Assert.assertEquals("11010519491231002X", columns.getIdCard18()[0]);
+        Assert.assertEquals("11010519491231002X", columns.getIdCard18()[1]);
+        Assert.assertEquals(IdCardUtils.getAgeByIdCard("11010519491231002X"), columns.getAge()[1]);
+        Assert.assertEquals(0, columns.getGender()[0]);
+        Assert.assertEquals(1101, columns.getCityCode()[1]);
+        Assert.assertEquals(IdCardStatus.BAD_CHECK_CODE, columns.getStatus()[2]);
+        Assert.assertEquals(-1, columns.getAge()[3]);
+        Assert.assertEquals(IdCardValidator.INVALID_EPOCH_DAY, columns.getBirthEpochDay()[3]);
+        Assert.assertNull(columns.getIdCard18()[3]);
+    }
+
+    @Test
+    public void regionCodes() {
+        Assert.assertEquals("北京", IdCardUtils.getProvinceByIdCard("11010519491231002X"));
+        Assert.assertEquals("石家庄市", IdCardUtils.geCityByIdCard("130105491231002"));
+        Assert.assertNull(RegionCodes.getCityName(9999));
+        Assert.assertEquals(34, RegionCodes.getTwFirstCode('I'));
+        Assert.assertEquals(-1, RegionCodes.getHkFirstCode('D'));
+    }
+
+    @Test
+    public void age() {
+        AgeCalculator ageCalculator = AgeCalculator.of(EpochDays.toEpochDay(2023, 2, 28));
+        int birth = EpochDays.toEpochDay(2000, 2, 29);
+        Assert.assertEquals(22, ageCalculator.age(birth));
+        Assert.assertEquals(23, AgeCalculator.of(EpochDays.toEpochDay(2023, 3, 1)).age(birth));
+        Assert.assertArrayEquals(new int[]{22, 0, 23}, ageCalculator.ages(new int[]{birth, birth + 9000, birth - 1}));
+        Assert.assertEquals(-1, IdCardUtils.getAgeByIdCard("110105194913310021"));
+    }
+}
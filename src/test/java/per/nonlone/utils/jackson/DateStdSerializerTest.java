@@ -0,0 +1,83 @@
+package per.nonlone.utils.jackson;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import org.junit.Assert;
+import org.junit.Test;
+import per.nonlone.utils.datetime.DateTimeStyle;
+import per.nonlone.utils.datetime.DateUtils;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.Random;
+
+public class DateStdSerializerTest {
+
+    @Test
+    public void roundTrip() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        Random random = new Random(32);
+        for (int i = 0; i < 2000; i++) {
+            long millis = i % 2 == 0 ? random.nextLong() % 400000000000000L : (long) (random.nextDouble() * 4000000000000L);
+            Dates dates = new Dates();
+            dates.pattern = new Date(millis);
+            dates.millis = new Date(millis);
+            dates.seconds = new Date(millis);
+            String json = objectMapper.writeValueAsString(dates);
+            long seconds = Math.floorDiv(millis, 1000L);
+            // 秒序列化沿用原有的截断除法
+            Assert.assertEquals("{\"pattern\":\"" + DateUtils.format(dates.pattern, DateTimeStyle.DEFAULT_YYYY_MM_DD_HH_MM_SS)
+                    + "\",\"millis\":" + millis + ",\"seconds\":" + millis / 1000L + "}", json);
+            Dates parsed = objectMapper.readValue(json, Dates.class);
+            Assert.assertEquals(millis, parsed.millis.getTime());
+            Assert.assertEquals(millis / 1000L * 1000L, parsed.seconds.getTime());
+            parsed = objectMapper.readValue("{\"millis\":\"" + millis + "\",\"seconds\":\" " + seconds + " \"}", Dates.class);
+            Assert.assertEquals(millis, parsed.millis.getTime());
+            Assert.assertEquals(seconds * 1000L, parsed.seconds.getTime());
+        }
+        Dates parsed = objectMapper.readValue("{\"millis\":\"\",\"seconds\":\" \"}", Dates.class);
+        Assert.assertNull(parsed.millis);
+        Assert.assertNull(parsed.seconds);
+    }
+
+    @Test
+    public void patternJavaTime() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        Times times = new Times();
+        times.dateTime = LocalDateTime.of(2019, 1, 21, 20, 0, 0);
+        times.compact = LocalDateTime.of(12019, 1, 21, 20, 0, 0);
+        Assert.assertEquals("{\"dateTime\":\"2019-01-21 20:00:00\",\"compact\":\"+120190121200000\"}", objectMapper.writeValueAsString(times));
+    }
+
+    public static class Dates {
+
+        @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+        @JsonSerialize(using = DatePatternStdSerializer.class)
+        public Date pattern;
+
+        @JsonDeserialize(using = DateLongDeserializer.class)
+        public Date millis;
+
+        @JsonSerialize(using = DateSecondStdSerializer.class)
+        @JsonDeserialize(using = DateSecondStdDeserializer.class)
+        public Date seconds;
+    }
+
+    public static class Times {
+
+        @JsonSerialize(using = DatePatternStdSerializer.class)
+        public LocalDateTime dateTime;
+
+        @JsonSerialize(using = CompactSerializer.class)
+        public LocalDateTime compact;
+    }
+
+    public static class CompactSerializer extends DatePatternStdSerializer {
+
+        public CompactSerializer() {
+            super(DateTimeStyle.DEFAULT_YYYYMMDDHHMMSS);
+        }
+    }
+}
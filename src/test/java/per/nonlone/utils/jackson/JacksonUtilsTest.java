@@ -0,0 +1,172 @@
+package per.nonlone.utils.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+public class JacksonUtilsTest {
+
+    @Test
+    public void performanceSameAsDefault() throws Exception {
+        ObjectMapper defaultMapper = JacksonUtils.getDefaultInstance();
+        ObjectMapper performanceMapper = JacksonUtils.getPerformanceInstance(Order.class);
+        Random random = new Random(26);
+        for (int k = 0; k < 500; k++) {
+            Order order = Order.random(random);
+            String json = defaultMapper.writeValueAsString(order);
+            Assert.assertEquals(json, performanceMapper.writeValueAsString(order));
+            Order parsed = performanceMapper.readValue(json, Order.class);
+            Assert.assertEquals(json, defaultMapper.writeValueAsString(parsed));
+            Assert.assertEquals(json, performanceMapper.writeValueAsString(defaultMapper.readValue(json, Order.class)));
+        }
+    }
+
+    @Test
+    public void cachedPerformanceInstance() {
+        ObjectMapper objectMapper = JacksonUtils.getCachedPerformanceInstance(Order.class);
+        Assert.assertSame(objectMapper, JacksonUtils.getCachedPerformanceInstance());
+        Assert.assertNotSame(objectMapper, JacksonUtils.getCachedDefaultInstance());
+        Assert.assertNotNull(objectMapper.copy());
+    }
+
+    public enum Status {
+        CREATED, PAID, CLOSED
+    }
+
+    public static class Item {
+
+        private String sku;
+
+        private int quantity;
+
+        private double price;
+
+        public String getSku() {
+            return sku;
+        }
+
+        public void setSku(String sku) {
+            this.sku = sku;
+        }
+
+        public int getQuantity() {
+            return quantity;
+        }
+
+        public void setQuantity(int quantity) {
+            this.quantity = quantity;
+        }
+
+        public double getPrice() {
+            return price;
+        }
+
+        public void setPrice(double price) {
+            this.price = price;
+        }
+    }
+
+    public static class Order {
+
+        private Long id;
+
+        private String userName;
+
+        private boolean paid;
+
+        private Status status;
+
+        private Date createTime;
+
+        private List<Item> items;
+
+        private Map<String, String> tags;
+
+        static Order random(Random random) {
+            Order order = new Order();
+            order.setId(random.nextBoolean() ? null : random.nextLong());
+            order.setUserName(random.nextInt(4) == 0 ? "" : "user\"" + random.nextInt(1000) + "测试");
+            order.setPaid(random.nextBoolean());
+            order.setStatus(random.nextInt(4) == 0 ? null : Status.values()[random.nextInt(Status.values().length)]);
+            order.setCreateTime(random.nextBoolean() ? null : new Date(random.nextInt(Integer.MAX_VALUE) * 1000L));
+            if (random.nextBoolean()) {
+                Item item = new Item();
+                item.setSku("sku-" + random.nextInt(100));
+                item.setQuantity(random.nextInt(10));
+                item.setPrice(random.nextInt(100000) / 100.0);
+                order.setItems(random.nextBoolean() ? Arrays.asList(item, new Item()) : Collections.emptyList());
+            }
+            if (random.nextBoolean()) {
+                Map<String, String> tags = new LinkedHashMap<>();
+                tags.put("channel", "app");
+                tags.put("empty", "");
+                order.setTags(tags);
+            }
+            return order;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getUserName() {
+            return userName;
+        }
+
+        public void setUserName(String userName) {
+            this.userName = userName;
+        }
+
+        public boolean isPaid() {
+            return paid;
+        }
+
+        public void setPaid(boolean paid) {
+            this.paid = paid;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+
+        public void setStatus(Status status) {
+            this.status = status;
+        }
+
+        public Date getCreateTime() {
+            return createTime;
+        }
+
+        public void setCreateTime(Date createTime) {
+            this.createTime = createTime;
+        }
+
+        public List<Item> getItems() {
+            return items;
+        }
+
+        public void setItems(List<Item> items) {
+            this.items = items;
+        }
+
+        public Map<String, String> getTags() {
+            return tags;
+        }
+
+        public void setTags(Map<String, String> tags) {
+            this.tags = tags;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package per.nonlone.utils.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class NullSerializerTest {
+
+    private static final String LEGACY_JSON = "{\"string\":\"\",\"list\":[],\"map\":\"\",\"array\":[],\"number\":\"\",\"bool\":\"\",\"optional\":\"\"}";
+
+    private static final String MODULE_JSON = "{\"string\":\"\",\"list\":[],\"map\":{},\"array\":[],\"number\":\"\",\"bool\":\"\",\"optional\":[]}";
+
+    @Test
+    public void nullValueSerializerKeepsLegacyOutput() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.getSerializerProvider().setNullValueSerializer(new NullSerializer());
+        Assert.assertEquals(LEGACY_JSON, objectMapper.writeValueAsString(new Nulls()));
+        Assert.assertEquals(LEGACY_JSON, objectMapper.writeValueAsString(new Nulls()));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void nullValueSerializerSkipsMapKeysAndMissingFields() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.getSerializerProvider().setNullValueSerializer(new NullSerializer());
+        Map<String, Object> map = new HashMap<>();
+        map.put("key-" + System.nanoTime(), null);
+        map.put("table", null);
+        Assert.assertFalse(objectMapper.writeValueAsString(map).contains("[]"));
+        Assert.assertEquals("{\"items\":\"\"}", objectMapper.writeValueAsString(new GetterOnly()));
+
+        Field field = NullSerializer.class.getDeclaredField("FIELD_CACHE");
+        field.setAccessible(true);
+        ClassValue<Map<String, NullSerializer>> fieldCache = (ClassValue<Map<String, NullSerializer>>) field.get(null);
+        Assert.assertTrue(fieldCache.get(HashMap.class).isEmpty());
+        Assert.assertTrue(fieldCache.get(GetterOnly.class).isEmpty());
+    }
+
+    @Test
+    public void moduleResolvesByPropertyType() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(NullSerializer.module());
+        Assert.assertEquals(MODULE_JSON, objectMapper.writeValueAsString(new Nulls()));
+    }
+
+    public static class Nulls {
+
+        private String string;
+
+        private List<String> list;
+
+        private Map<String, Object> map;
+
+        private int[] array;
+
+        private Long number;
+
+        private Boolean bool;
+
+        private Optional<List<String>> optional;
+
+        public String getString() {
+            return string;
+        }
+
+        public List<String> getList() {
+            return list;
+        }
+
+        public Map<String, Object> getMap() {
+            return map;
+        }
+
+        public int[] getArray() {
+            return array;
+        }
+
+        public Long getNumber() {
+            return number;
+        }
+
+        public Boolean getBool() {
+            return bool;
+        }
+
+        public Optional<List<String>> getOptional() {
+            return optional;
+        }
+    }
+
+    public static class GetterOnly {
+
+        public List<String> getItems() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package per.nonlone.utils.mask;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Random;
+
+public class MaskUtilsTest {
+
+    @Test
+    public void maskSameAsRegExp() {
+        String[][] regExps = {
+                {"(\\w{4})\\w{10}(\\w{4})", "$1**********$2"},
+                {"(\\d{3})\\d{4}(\\d{4})", "$1****$2"},
+                {"(\\d{4})\\d{8}(\\d{4})", "$1********$2"}
+        };
+        MaskType[] maskTypes = {MaskType.ID_CARD, MaskType.PHONE, MaskType.BANK_CARD};
+        String alphabet = "0123456789aZ_ -X";
+        Random random = new Random(20190121L);
+        for (int k = 0; k < 20000; k++) {
+            StringBuilder sb = new StringBuilder();
+            for (int i = random.nextInt(48); i > 0; i--) {
+                sb.append(random.nextInt(4) == 0 ? alphabet.charAt(random.nextInt(alphabet.length())) : (char) ('0' + random.nextInt(10)));
+            }
+            String source = sb.toString();
+            for (int t = 0; t < maskTypes.length; t++) {
+                Assert.assertEquals(source, source.replaceAll(regExps[t][0], regExps[t][1]), MaskUtils.mask(source, maskTypes[t]));
+            }
+        }
+    }
+
+    @Test
+    public void maskWriterSameAsMaskText() throws IOException {
+        String[] separators = {" ", ",", "=", "a", "Z", "b", "X", "x"};
+        String[] numbers = {"13800001111", "44088219940709302", "440882199407093", "4408821994070930", "1"};
+        Random random = new Random(30);
+        for (int k = 0; k < 200; k++) {
+            StringBuilder sb = new StringBuilder();
+            // 换行极少，缓冲按长度截断写出，偶尔出现无换行的超长数字串
+            while (sb.length() < 20000) {
+                sb.append(random.nextInt(10000) == 0 ? "\n" : separators[random.nextInt(separators.length)]);
+                int r = random.nextInt(50);
+                if (r < numbers.length) {
+                    sb.append(numbers[r]);
+                } else {
+                    for (int i = r == 49 ? random.nextInt(10000) : 10 + random.nextInt(12); i > 0; i--) {
+                        sb.append((char) ('0' + random.nextInt(10)));
+                    }
+                }
+            }
+            String text = sb.toString();
+            StringWriter stringWriter = new StringWriter();
+            MaskWriter maskWriter = new MaskWriter(stringWriter);
+            char[] chars = text.toCharArray();
+            for (int i = 0; i < chars.length; ) {
+                int length = Math.min(chars.length - i, 1 + random.nextInt(random.nextBoolean() ? 8 : 4096));
+                maskWriter.write(chars, i, length);
+                i += length;
+            }
+            maskWriter.close();
+            Assert.assertEquals(MaskUtils.maskText(text), stringWriter.toString());
+        }
+    }
+
+    @Test
+    public void maskWriterBoundedWithoutNewline() throws IOException {
+        StringWriter stringWriter = new StringWriter();
+        MaskWriter maskWriter = new MaskWriter(stringWriter);
+        char[] digits = new char[1000];
+        Arrays.fill(digits, '1');
+        for (int i = 0; i < 1000; i++) {
+            maskWriter.write(digits);
+        }
+        Assert.assertTrue(stringWriter.getBuffer().length() >= 1000 * 1000 - 8192);
+        maskWriter.close();
+        Assert.assertEquals(1000 * 1000, stringWriter.getBuffer().length());
+    }
+
+    @Test
+    public void maskText() {
+        Assert.assertEquals("id=4408**********302X phone:138****1111 ts=1548072000990 a13800001111",
+                MaskUtils.maskText("id=44088219940709302X phone:13800001111 ts=1548072000990 a13800001111"));
+    }
+}